@@ -26,6 +26,7 @@ import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonTagListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ParallelLoader;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TagListStorage;
@@ -58,15 +59,18 @@ public class MainApp extends Application {
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
+        // The address book and tag list are found through the user prefs, so those are loaded first
+        ParallelLoader loader = new ParallelLoader();
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        UserPrefs userPrefs = loader.run("user prefs", () -> initPrefs(userPrefsStorage));
 
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
         TagListStorage tagListStorage = new JsonTagListStorage(userPrefs.getTagListFilePath());
 
         storage = new StorageManager(addressBookStorage, userPrefsStorage, tagListStorage);
 
-        model = initModelManager(storage, userPrefs);
+        model = initModelManager(storage, userPrefs, loader);
+        logger.info("Loaded data: " + loader.getTimings());
 
         logic = new LogicManager(model, storage);
 
@@ -78,8 +82,9 @@ public class MainApp extends Application {
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The address book and the tag list are read at the same time by {@code loader}.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private Model initModelManager(Storage storage, UserPrefs userPrefs, ParallelLoader loader) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -88,15 +93,18 @@ public class MainApp extends Application {
         Optional<TagList> tagListOptional;
         TagList initialTagList;
 
+        ParallelLoader.Load<Optional<ReadOnlyAddressBook>> addressBookLoad =
+                loader.load("address book", storage::readAddressBook);
+        ParallelLoader.Load<Optional<TagList>> tagListLoad = loader.load("tag list", storage::readTagList);
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = addressBookLoad.get();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample Hi:Re list.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
 
-            tagListOptional = storage.readTagList();
+            tagListOptional = tagListLoad.get();
             if (!tagListOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getTagListFilePath());
             }
@@ -199,6 +207,8 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Hi:Re ] =============================");
+        logic.close();
+        logic.getAccountManager().closeUndoJournal();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -8,38 +8,77 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import seedu.address.account.function.AccountFileLock;
+import seedu.address.account.function.AccountIndex;
 import seedu.address.account.function.AccountParser;
 import seedu.address.account.function.AccountStorage;
 
 /**
  * Represents a list of Accounts.
- * Each AccountList is associated with a map that stores accounts with their usernames as keys.
+ * Each AccountList is associated with an accounts file that stores the accounts, and an index of that file.
+ *
+ * The accounts file is a log of records, one per line. A new account is appended to it as one record, so
+ * registering takes the same time however many accounts there are. Records that no longer describe an account,
+ * such as repeated or unreadable ones, are only dropped when the file is compacted, which rewrites the whole file
+ * once there are enough of them.
+ *
+ * The accounts are never read into memory as a whole. The index, kept next to the accounts file, gives where the
+ * record of each account starts, so logging in or registering reads only the records of the account involved,
+ * and loading the list reads only the records appended since the index was last updated.
+ *
+ * The accounts file may be shared by other threads and other instances of the app, such as several kiosks that
+ * share a data folder. Each operation holds the lock on the file throughout, so that it sees the accounts others
+ * have added and no two of them add the same account. Logging in only holds a lock shared with other logins.
  */
 public class AccountList {
-    private static final String filePath = "data/accounts.txt";
-    private Map<Username, Account> accounts;
+    /** The fewest stale records in the accounts file that are worth rewriting the whole file to drop. */
+    static final int MIN_STALE_RECORDS_TO_COMPACT = 64;
+
+    private static final String DEFAULT_FILE_PATH = "data/accounts.txt";
+    private static final String INDEX_FILE_EXTENSION = ".idx";
+    private final String filePath;
     private AccountParser accountParser = new AccountParser();
-    private AccountStorage accountStorage = new AccountStorage(filePath);
+    private AccountStorage accountStorage;
+    private AccountIndex accountIndex;
 
     /**
-     * Constructs an AccountList instance with an empty map of accounts.
+     * Constructs an AccountList instance kept in the default accounts file.
      */
     public AccountList() {
-        this.accounts = new HashMap<>();
+        this(DEFAULT_FILE_PATH);
+    }
+
+    /**
+     * Constructs an AccountList instance kept in the file at {@code filePath}.
+     */
+    public AccountList(String filePath) {
+        this.filePath = filePath;
+        this.accountStorage = new AccountStorage(filePath);
+        this.accountIndex = new AccountIndex(filePath + INDEX_FILE_EXTENSION);
     }
 
     /**
      * Adds a new account to the list. Returns true if the account was successfully added,
-     * or false if an account with the same username already exists.
+     * or false if an account with the same username already exists or the account could not be stored.
      */
     public boolean addAccount(Account account) {
-        if (accounts.containsKey(account.getUsername())) {
+        try (AccountFileLock lock = AccountFileLock.acquire(filePath, false)) {
+            loadIndex();
+            if (findRecordOffset(account.getUsername()) != null) {
+                return false;
+            }
+            long offset = accountStorage.appendToFile(toRecord(account));
+            accountIndex.add(account.getUsername().getUsername(), offset, accountStorage.getFileLength());
+            if (isCompactionDue()) {
+                compact();
+            }
+            return true;
+        } catch (IOException e) {
+            e.printStackTrace();
             return false;
         }
-        accounts.put(account.getUsername(), account);
-        saveToFile();
-        return true;
     }
 
     /**
@@ -47,13 +86,35 @@ public class AccountList {
      * Returns the Account object if authentication is successful, or null otherwise.
      */
     public Account authenticate(Username username, Password passwordHash) {
-        Account account = accounts.get(username);
+        Account account;
+        try {
+            account = findAccountWithSharedLock(username);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return null;
+        }
         if (account != null && account.getPasswordHash().equals(passwordHash)) {
             return account;
         }
         return null;
     }
 
+    /**
+     * Returns the account with {@code username}, or null if there is none.
+     * Other instances of the app may read the accounts at the same time, unless the index has to be updated first.
+     */
+    private Account findAccountWithSharedLock(Username username) throws IOException {
+        try (AccountFileLock lock = AccountFileLock.acquire(filePath, true)) {
+            if (isIndexUpToDate()) {
+                return findAccount(username);
+            }
+        }
+        try (AccountFileLock lock = AccountFileLock.acquire(filePath, false)) {
+            loadIndex();
+            return findAccount(username);
+        }
+    }
+
     /**
      * Hashes a password using SHA-256.
      *
@@ -90,35 +151,160 @@ public class AccountList {
     }
 
     /**
-     * Saves the current state of the accounts to the storage.
-     * It first converts the account values to a string using the accountParser,
-     * then saves this string representation to the accountStorage.
+     * Saves the current state of the accounts to the storage, rewriting the whole file without its stale records.
+     * It reads the records the index points to in one pass over the file, saves them to the accountStorage,
+     * then indexes the new file.
      * If an exception occurs during this process, it is caught and its stack trace is printed.
      */
     public void saveToFile() {
-        try {
-            ArrayList<Account> accountArrayList = new ArrayList<>(accounts.values());
-            List<String> accountStringList = accountParser.parseToString(accountArrayList);
-            accountStorage.saveToFile(accountStringList);
+        try (AccountFileLock lock = AccountFileLock.acquire(filePath, false)) {
+            loadIndex();
+            compact();
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Rewrites the accounts file without its stale records, while holding the lock on it.
+     */
+    private void compact() throws IOException {
+        Set<Long> liveOffsets = accountIndex.getAllOffsets();
+        List<String> accountStringList = new ArrayList<>();
+        accountStorage.forEachRecord(0, (offset, record, nextOffset) -> {
+            if (liveOffsets.contains(offset)) {
+                accountStringList.add(record);
+            }
+        });
+        accountStorage.saveToFile(accountStringList);
+        rebuildIndex();
+    }
+
+    /**
+     * Returns true if the stale records in the accounts file are both numerous and at least as many as the
+     * accounts, so that compacting the file at least halves it.
+     */
+    private boolean isCompactionDue() {
+        int accountCount = accountIndex.getAccountCount();
+        int staleRecordCount = accountIndex.getRecordCount() - accountCount;
+        return staleRecordCount >= Math.max(MIN_STALE_RECORDS_TO_COMPACT, accountCount);
+    }
+
+    /**
+     * Returns the number of records in the accounts file, including stale ones.
+     */
+    int getRecordCount() {
+        return accountIndex.getRecordCount();
+    }
+
     /**
      * Loads the accounts from the storage file.
-     * It first reads the account strings from the accountStorage,
-     * then parses these strings to Account objects using the accountParser.
-     * The Account objects are then stored in the accounts map.
+     * It opens the index of the file, then indexes the records appended to the file since the index was last
+     * updated; a later record of an account replaces an earlier one.
+     * If there is no usable index, for example the first time the file is loaded, it is built from the whole file.
+     * Records that cannot be read, such as one cut short by a crash while it was being written, are skipped.
      * If an exception occurs during this process, it is thrown.
      *
      * @throws IOException if an error occurs during reading from the file.
      */
     public void loadFromFile() throws IOException {
-        List<String> accountStringList = accountStorage.loadFromFile();
-        List<Account> accountList = accountParser.parseToAccount(accountStringList);
-        for (Account account : accountList) {
-            accounts.put(account.getUsername(), account);
+        try (AccountFileLock lock = AccountFileLock.acquire(filePath, false)) {
+            loadIndex();
+        }
+    }
+
+    /**
+     * Returns true if the index is readable and covers exactly the whole accounts file.
+     */
+    private boolean isIndexUpToDate() throws IOException {
+        return accountIndex.open() && accountIndex.getIndexedLength() == accountStorage.getFileLength();
+    }
+
+    /**
+     * Opens the index and makes sure it covers the whole accounts file, which another instance of the app may have
+     * written to since. The exclusive lock on the accounts file must be held.
+     */
+    private void loadIndex() throws IOException {
+        long fileLength = accountStorage.getFileLength();
+        if (!accountIndex.open() || accountIndex.getIndexedLength() > fileLength) {
+            rebuildIndex();
+        } else if (accountIndex.getIndexedLength() < fileLength) {
+            accountStorage.forEachRecord(accountIndex.getIndexedLength(), this::indexRecord);
+        }
+    }
+
+    /**
+     * Builds the index from the whole accounts file, in one pass over it.
+     */
+    private void rebuildIndex() throws IOException {
+        Map<String, Long> offsetsByUsername = new HashMap<>();
+        int[] recordCount = new int[1];
+        long[] indexedLength = new long[1];
+        accountStorage.forEachRecord(0, (offset, record, nextOffset) -> {
+            recordCount[0]++;
+            indexedLength[0] = nextOffset;
+            Account account = parseRecord(record);
+            if (account != null) {
+                offsetsByUsername.put(account.getUsername().getUsername(), offset);
+            }
+        });
+        accountIndex.rebuild(offsetsByUsername, recordCount[0], indexedLength[0]);
+    }
+
+    /**
+     * Adds the record starting at {@code offset} to the index.
+     */
+    private void indexRecord(long offset, String record, long nextOffset) throws IOException {
+        Account account = parseRecord(record);
+        if (account == null) {
+            // Left as a stale record, to be dropped when the file is next compacted
+            accountIndex.skip(nextOffset);
+            return;
+        }
+        Long oldOffset = findRecordOffset(account.getUsername());
+        if (oldOffset == null) {
+            accountIndex.add(account.getUsername().getUsername(), offset, nextOffset);
+        } else {
+            accountIndex.replace(account.getUsername().getUsername(), oldOffset, offset, nextOffset);
+        }
+    }
+
+    /**
+     * Returns the account with {@code username}, or null if there is none.
+     */
+    private Account findAccount(Username username) throws IOException {
+        Long offset = findRecordOffset(username);
+        return offset == null ? null : parseRecord(accountStorage.readRecordAt(offset));
+    }
+
+    /**
+     * Returns the offset of the record of the account with {@code username}, or null if there is none.
+     */
+    private Long findRecordOffset(Username username) throws IOException {
+        for (long offset : accountIndex.findOffsets(username.getUsername())) {
+            Account account = parseRecord(accountStorage.readRecordAt(offset));
+            if (account != null && account.getUsername().equals(username)) {
+                return offset;
+            }
+        }
+        return null;
+    }
+
+    private String toRecord(Account account) {
+        return accountParser.parseToString(List.of(account)).get(0);
+    }
+
+    /**
+     * Returns the account described by {@code record}, or null if it cannot be read.
+     */
+    private Account parseRecord(String record) {
+        if (record == null) {
+            return null;
+        }
+        try {
+            return accountParser.parseToAccount(List.of(record)).get(0);
+        } catch (RuntimeException e) {
+            return null;
         }
     }
 }
@@ -0,0 +1,118 @@
+package seedu.address.account.function;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents a lock on an accounts file, held while its accounts are read or written, which keeps out both other
+ * threads and other instances of the app that share the file.
+ *
+ * Other threads are kept out by a lock per file shared by the whole app. Other instances of the app are kept out
+ * by a lock on a file of its own next to the accounts file, which, unlike the accounts file, is never replaced.
+ * Any number of instances may hold a shared lock at once, but only one may hold an exclusive lock. While another
+ * instance holds the file lock, it is tried again after a wait that doubles each time, up to {@link #MAX_WAIT_MILLIS}.
+ */
+public class AccountFileLock implements AutoCloseable {
+    public static final long MAX_WAIT_MILLIS = 10_000;
+
+    private static final String LOCK_FILE_EXTENSION = ".lock";
+    private static final long FIRST_BACKOFF_MILLIS = 1;
+    private static final long MAX_BACKOFF_MILLIS = 64;
+    private static final ConcurrentMap<Path, ReentrantLock> threadLocks = new ConcurrentHashMap<>();
+
+    private final ReentrantLock threadLock;
+    private final FileChannel lockChannel;
+    private final FileLock fileLock;
+
+    private AccountFileLock(ReentrantLock threadLock, FileChannel lockChannel, FileLock fileLock) {
+        this.threadLock = threadLock;
+        this.lockChannel = lockChannel;
+        this.fileLock = fileLock;
+    }
+
+    /**
+     * Waits for and takes the lock on the accounts file at {@code filePath}.
+     *
+     * @param filePath The file path where the account data is stored.
+     * @param isShared Whether other instances of the app may hold a shared lock on the file at the same time,
+     *                 for when the accounts are only read.
+     * @throws IOException If the lock could not be taken within {@link #MAX_WAIT_MILLIS}, or an I/O error occurs.
+     */
+    public static AccountFileLock acquire(String filePath, boolean isShared) throws IOException {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MILLIS);
+        Path path = Paths.get(filePath).toAbsolutePath().normalize();
+        ReentrantLock threadLock = threadLocks.computeIfAbsent(path, unused -> new ReentrantLock());
+        try {
+            if (!threadLock.tryLock(MAX_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                throw new IOException("Timed out waiting for another session to finish with " + filePath);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for " + filePath);
+        }
+
+        FileChannel lockChannel = null;
+        try {
+            createParentDirectoryIfNeeded(path);
+            lockChannel = FileChannel.open(Paths.get(path + LOCK_FILE_EXTENSION), StandardOpenOption.CREATE,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            FileLock fileLock = lockFile(lockChannel, isShared, deadlineNanos, filePath);
+            return new AccountFileLock(threadLock, lockChannel, fileLock);
+        } catch (IOException | RuntimeException e) {
+            if (lockChannel != null) {
+                lockChannel.close();
+            }
+            threadLock.unlock();
+            throw e;
+        }
+    }
+
+    private static FileLock lockFile(FileChannel lockChannel, boolean isShared, long deadlineNanos, String filePath)
+            throws IOException {
+        long backoffMillis = FIRST_BACKOFF_MILLIS;
+        while (true) {
+            FileLock fileLock = lockChannel.tryLock(0, Long.MAX_VALUE, isShared);
+            if (fileLock != null) {
+                return fileLock;
+            }
+            if (System.nanoTime() >= deadlineNanos) {
+                throw new IOException("Timed out waiting for another instance of the app to finish with " + filePath);
+            }
+            try {
+                Thread.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for " + filePath);
+            }
+            backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+        }
+    }
+
+    private static void createParentDirectoryIfNeeded(Path path) {
+        Path parentDir = path.getParent();
+        if (parentDir != null && !parentDir.toFile().exists()) {
+            parentDir.toFile().mkdirs();
+        }
+    }
+
+    /**
+     * Releases the lock.
+     */
+    @Override
+    public void close() throws IOException {
+        try (lockChannel) {
+            fileLock.release();
+        } finally {
+            threadLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,328 @@
+package seedu.address.account.function;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents an index of the records in an accounts file, kept in a file of its own.
+ * The index maps the hash of each username to the offset in the accounts file at which the record of that account
+ * starts, so an account can be found by reading only its own record, and the index is never read as a whole.
+ *
+ * The index file holds a hash table with open addressing: a header, followed by slots that each hold the hash of a
+ * username and the offset of its record. The table is doubled in size whenever it becomes half full.
+ * The header also records how much of the accounts file has been indexed, so that records appended since can be
+ * indexed later.
+ */
+public class AccountIndex {
+    static final int INITIAL_SLOT_COUNT = 1024;
+
+    private static final int MAGIC = 0x41434958;
+    private static final int HEADER_BYTES = 24;
+    private static final int SLOT_BYTES = 12;
+
+    private final String filePath;
+    private int slotCount;
+    private int usedSlotCount;
+    private int recordCount;
+    private long indexedLength;
+
+    /**
+     * Constructs an AccountIndex kept in the file at the specified file path.
+     *
+     * @param filePath The file path where the index is stored.
+     */
+    public AccountIndex(String filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads the header of the index file.
+     * Returns false if there is no readable index, in which case it must be built again with {@link #rebuild}.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public boolean open() throws IOException {
+        File file = new File(filePath);
+        if (!file.exists() || file.length() < HEADER_BYTES) {
+            return false;
+        }
+        try (RandomAccessFile index = new RandomAccessFile(file, "r")) {
+            if (index.readInt() != MAGIC) {
+                return false;
+            }
+            slotCount = index.readInt();
+            usedSlotCount = index.readInt();
+            recordCount = index.readInt();
+            indexedLength = index.readLong();
+        }
+        return slotCount > 0 && file.length() == HEADER_BYTES + (long) slotCount * SLOT_BYTES;
+    }
+
+    /**
+     * Replaces the index with one of the accounts in {@code offsetsByUsername}, whose records start at the mapped
+     * offsets in the accounts file. The first {@code indexedLength} bytes of the accounts file, which hold
+     * {@code recordCount} records, are then indexed.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public void rebuild(Map<String, Long> offsetsByUsername, int recordCount, long indexedLength) throws IOException {
+        int newSlotCount = INITIAL_SLOT_COUNT;
+        while (offsetsByUsername.size() > newSlotCount / 2) {
+            newSlotCount *= 2;
+        }
+        int[] hashes = new int[newSlotCount];
+        long[] offsets = new long[newSlotCount];
+        for (Map.Entry<String, Long> entry : offsetsByUsername.entrySet()) {
+            int hash = hash(entry.getKey());
+            int slot = Math.floorMod(spread(hash), newSlotCount);
+            while (offsets[slot] != 0) {
+                slot = (slot + 1) % newSlotCount;
+            }
+            hashes[slot] = hash;
+            offsets[slot] = entry.getValue() + 1;
+        }
+        this.usedSlotCount = offsetsByUsername.size();
+        this.recordCount = recordCount;
+        this.indexedLength = indexedLength;
+        writeTable(hashes, offsets);
+    }
+
+    /**
+     * Returns the offsets of the records whose usernames have the same hash as {@code username}.
+     * One of them is the record of {@code username}, if it has one.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public List<Long> findOffsets(String username) throws IOException {
+        int hash = hash(username);
+        List<Long> offsets = new ArrayList<>();
+        try (RandomAccessFile index = new RandomAccessFile(filePath, "r")) {
+            for (int slot = firstSlot(hash); ; slot = (slot + 1) % slotCount) {
+                index.seek(slotPosition(slot));
+                int slotHash = index.readInt();
+                long slotOffset = index.readLong();
+                if (slotOffset == 0) {
+                    return offsets;
+                }
+                if (slotHash == hash) {
+                    offsets.add(slotOffset - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the offsets of the records of all accounts in the index.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public Set<Long> getAllOffsets() throws IOException {
+        Set<Long> offsets = new HashSet<>();
+        try (RandomAccessFile index = new RandomAccessFile(filePath, "r")) {
+            byte[] slots = new byte[slotCount * SLOT_BYTES];
+            index.seek(HEADER_BYTES);
+            index.readFully(slots);
+            ByteBuffer slotBuffer = ByteBuffer.wrap(slots);
+            for (int slot = 0; slot < slotCount; slot++) {
+                slotBuffer.getInt();
+                long slotOffset = slotBuffer.getLong();
+                if (slotOffset != 0) {
+                    offsets.add(slotOffset - 1);
+                }
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Indexes the record of a new account, {@code username}, which starts at {@code offset} and ends the indexed
+     * part of the accounts file at {@code nextOffset}.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public void add(String username, long offset, long nextOffset) throws IOException {
+        if (usedSlotCount + 1 > slotCount / 2) {
+            grow();
+        }
+        int hash = hash(username);
+        try (RandomAccessFile index = new RandomAccessFile(filePath, "rw")) {
+            int slot = firstSlot(hash);
+            while (readOffset(index, slot) != 0) {
+                slot = (slot + 1) % slotCount;
+            }
+            index.seek(slotPosition(slot));
+            index.writeInt(hash);
+            index.writeLong(offset + 1);
+            usedSlotCount++;
+            recordCount++;
+            indexedLength = nextOffset;
+            writeHeader(index);
+        }
+    }
+
+    /**
+     * Points the index at the record of {@code username} starting at {@code offset}, which replaces its earlier
+     * record at {@code oldOffset}, and ends the indexed part of the accounts file at {@code nextOffset}.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public void replace(String username, long oldOffset, long offset, long nextOffset) throws IOException {
+        int hash = hash(username);
+        try (RandomAccessFile index = new RandomAccessFile(filePath, "rw")) {
+            for (int slot = firstSlot(hash); ; slot = (slot + 1) % slotCount) {
+                long slotOffset = readOffset(index, slot);
+                if (slotOffset == 0) {
+                    break;
+                }
+                if (slotOffset == oldOffset + 1) {
+                    index.seek(slotPosition(slot) + Integer.BYTES);
+                    index.writeLong(offset + 1);
+                    break;
+                }
+            }
+            recordCount++;
+            indexedLength = nextOffset;
+            writeHeader(index);
+        }
+    }
+
+    /**
+     * Records that the part of the accounts file up to {@code nextOffset} holds a record that describes no account,
+     * such as an unreadable one.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public void skip(long nextOffset) throws IOException {
+        try (RandomAccessFile index = new RandomAccessFile(filePath, "rw")) {
+            recordCount++;
+            indexedLength = nextOffset;
+            writeHeader(index);
+        }
+    }
+
+    /**
+     * Returns the number of accounts in the index.
+     */
+    public int getAccountCount() {
+        return usedSlotCount;
+    }
+
+    /**
+     * Returns the number of records in the indexed part of the accounts file, including stale ones.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the length of the part of the accounts file that has been indexed.
+     */
+    public long getIndexedLength() {
+        return indexedLength;
+    }
+
+    /**
+     * Doubles the number of slots in the table.
+     */
+    private void grow() throws IOException {
+        int[] hashes = new int[slotCount];
+        long[] offsets = new long[slotCount];
+        try (RandomAccessFile index = new RandomAccessFile(filePath, "r")) {
+            byte[] slots = new byte[slotCount * SLOT_BYTES];
+            index.seek(HEADER_BYTES);
+            index.readFully(slots);
+            ByteBuffer slotBuffer = ByteBuffer.wrap(slots);
+            for (int slot = 0; slot < slotCount; slot++) {
+                hashes[slot] = slotBuffer.getInt();
+                offsets[slot] = slotBuffer.getLong();
+            }
+        }
+
+        int newSlotCount = slotCount * 2;
+        int[] newHashes = new int[newSlotCount];
+        long[] newOffsets = new long[newSlotCount];
+        for (int slot = 0; slot < hashes.length; slot++) {
+            if (offsets[slot] == 0) {
+                continue;
+            }
+            int newSlot = Math.floorMod(spread(hashes[slot]), newSlotCount);
+            while (newOffsets[newSlot] != 0) {
+                newSlot = (newSlot + 1) % newSlotCount;
+            }
+            newHashes[newSlot] = hashes[slot];
+            newOffsets[newSlot] = offsets[slot];
+        }
+        writeTable(newHashes, newOffsets);
+    }
+
+    /**
+     * Writes a whole new index file with the given slots, replacing the old one only once it is complete.
+     */
+    private void writeTable(int[] hashes, long[] offsets) throws IOException {
+        File tempFile = new File(filePath + ".tmp");
+        File parentDir = tempFile.getAbsoluteFile().getParentFile();
+        if (parentDir != null && !parentDir.exists()) {
+            parentDir.mkdirs();
+        }
+        try (DataOutputStream index = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tempFile)))) {
+            index.writeInt(MAGIC);
+            index.writeInt(hashes.length);
+            index.writeInt(usedSlotCount);
+            index.writeInt(recordCount);
+            index.writeLong(indexedLength);
+            for (int slot = 0; slot < hashes.length; slot++) {
+                index.writeInt(hashes[slot]);
+                index.writeLong(offsets[slot]);
+            }
+        }
+        Files.move(tempFile.toPath(), Paths.get(filePath), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        slotCount = hashes.length;
+    }
+
+    private void writeHeader(RandomAccessFile index) throws IOException {
+        index.seek(0);
+        index.writeInt(MAGIC);
+        index.writeInt(slotCount);
+        index.writeInt(usedSlotCount);
+        index.writeInt(recordCount);
+        index.writeLong(indexedLength);
+    }
+
+    private long readOffset(RandomAccessFile index, int slot) throws IOException {
+        index.seek(slotPosition(slot) + Integer.BYTES);
+        return index.readLong();
+    }
+
+    private int firstSlot(int hash) {
+        return Math.floorMod(spread(hash), slotCount);
+    }
+
+    private static long slotPosition(int slot) {
+        return HEADER_BYTES + (long) slot * SLOT_BYTES;
+    }
+
+    private static int hash(String username) {
+        return username.hashCode();
+    }
+
+    /**
+     * Mixes the high bits of {@code hash} into the low ones, which pick the slot.
+     */
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,17 +1,25 @@
 package seedu.address.account.function;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
-import java.io.FileReader;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents a storage for Account data.
  * Each AccountStorage is associated with a file path where the account data is stored.
+ * The file is always written and read as UTF-8.
  */
 public class AccountStorage {
     private final String filePath;
@@ -41,7 +49,7 @@ public class AccountStorage {
             file.createNewFile();
         }
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
             String line;
             while ((line = reader.readLine()) != null) {
                 accounts.add(line);
@@ -52,18 +60,143 @@ public class AccountStorage {
     }
 
     /**
-     * Saves the account data to the file.
+     * Saves the account data to the file, replacing what was in it.
+     * The data is written to a temporary file first, which then takes the place of the file, so the file is never
+     * left half written.
      *
      * @param accounts The list of account data strings to be saved to the file.
      * @throws IOException If an I/O error occurs.
      */
     public void saveToFile(List<String> accounts) throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+        File tempFile = new File(filePath + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
             for (String account : accounts) {
                 writer.write(account);
                 writer.newLine();
             }
         }
+        Files.move(tempFile.toPath(), Paths.get(filePath), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Appends the data of one account to the end of the file, without rewriting the rest of it.
+     * If the last line of the file was cut short, for example by a crash while it was being written,
+     * the account is still written on a line of its own.
+     *
+     * @param account The account data string to be appended to the file.
+     * @return The offset in the file at which the account data starts.
+     * @throws IOException If an I/O error occurs.
+     */
+    public long appendToFile(String account) throws IOException {
+        boolean isLastLineUnfinished = false;
+        File file = new File(filePath);
+        long offset = file.length();
+        if (offset > 0) {
+            try (RandomAccessFile accountFile = new RandomAccessFile(file, "r")) {
+                accountFile.seek(offset - 1);
+                isLastLineUnfinished = accountFile.read() != '\n';
+            }
+        }
+
+        try (BufferedWriter writer = Files.newBufferedWriter(Paths.get(filePath), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            if (isLastLineUnfinished) {
+                writer.newLine();
+                offset += System.lineSeparator().length();
+            }
+            writer.write(account);
+            writer.newLine();
+        }
+        return offset;
+    }
+
+    /**
+     * Reads the data of the one account that starts at {@code offset} in the file, without reading the rest of it.
+     *
+     * @param offset The offset in the file at which the account data starts.
+     * @return The account data string, or null if the file ends at {@code offset}.
+     * @throws IOException If an I/O error occurs.
+     */
+    public String readRecordAt(long offset) throws IOException {
+        try (RandomAccessFile accountFile = new RandomAccessFile(filePath, "r");
+                BufferedInputStream input = new BufferedInputStream(
+                        Channels.newInputStream(accountFile.getChannel().position(offset)))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int b = input.read();
+            if (b == -1) {
+                return null;
+            }
+            while (b != -1 && b != '\n') {
+                if (b != '\r') {
+                    line.write(b);
+                }
+                b = input.read();
+            }
+            return decode(line);
+        }
+    }
+
+    /**
+     * Reads the data of each account in the file from {@code fromOffset} onwards, in order, and hands it to
+     * {@code visitor} along with where it starts and ends in the file. Empty lines are skipped.
+     *
+     * @throws IOException If an I/O error occurs, or if {@code visitor} throws one.
+     */
+    public void forEachRecord(long fromOffset, RecordVisitor visitor) throws IOException {
+        File file = new File(filePath);
+        if (!file.exists()) {
+            return;
+        }
+        try (RandomAccessFile accountFile = new RandomAccessFile(file, "r");
+                BufferedInputStream input = new BufferedInputStream(
+                        Channels.newInputStream(accountFile.getChannel().position(fromOffset)))) {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            long lineOffset = fromOffset;
+            long offset = fromOffset;
+            int b;
+            while ((b = input.read()) != -1) {
+                offset++;
+                if (b == '\n') {
+                    visitLine(visitor, lineOffset, line, offset);
+                    line.reset();
+                    lineOffset = offset;
+                } else if (b != '\r') {
+                    line.write(b);
+                }
+            }
+            visitLine(visitor, lineOffset, line, offset);
+        }
+    }
+
+    private static void visitLine(RecordVisitor visitor, long offset, ByteArrayOutputStream line, long nextOffset)
+            throws IOException {
+        if (line.size() > 0) {
+            visitor.visit(offset, decode(line), nextOffset);
+        }
+    }
+
+    private static String decode(ByteArrayOutputStream line) {
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the length of the file in bytes, which is 0 if it does not exist.
+     */
+    public long getFileLength() {
+        return new File(filePath).length();
+    }
+
+    /**
+     * Handles the data of one account read from the file.
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+        /**
+         * Handles {@code record}, the data of one account, which starts at {@code offset} in the file and is
+         * followed by the next at {@code nextOffset}.
+         */
+        void visit(long offset, String record, long nextOffset) throws IOException;
     }
 
     private void createParentDirectoryIfNeeded(String filePath) {
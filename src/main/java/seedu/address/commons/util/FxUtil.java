@@ -0,0 +1,59 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Helper functions for updating state that is shown in the JavaFX UI, which may only be done on the JavaFX
+ * application thread once the UI has started.
+ */
+public class FxUtil {
+
+    private static volatile boolean isUiStarted;
+
+    /**
+     * Records that the UI has started, so that updates from other threads are handed to the JavaFX application
+     * thread from now on.
+     */
+    public static void setUiStarted() {
+        isUiStarted = true;
+    }
+
+    /**
+     * Returns true if the calling thread may update state shown in the UI: the JavaFX application thread,
+     * or any thread before the UI has started.
+     */
+    public static boolean isUiThread() {
+        return !isUiStarted || Platform.isFxApplicationThread();
+    }
+
+    /**
+     * Runs {@code action} right away if the calling thread may update the UI, and otherwise later on the JavaFX
+     * application thread. Actions handed over from one thread are run in the order they were given.
+     */
+    public static void runOnUiThread(Runnable action) {
+        requireNonNull(action);
+        if (isUiThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
+    /**
+     * Runs {@code action} on the JavaFX application thread at the start of the next pulse, just before the UI is
+     * laid out and rendered for the next frame.
+     */
+    public static void runOnNextPulse(Runnable action) {
+        requireNonNull(action);
+        Platform.runLater(() -> new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                action.run();
+            }
+        }.start());
+    }
+}
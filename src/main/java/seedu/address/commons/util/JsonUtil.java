@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -15,7 +16,9 @@ import org.json.JSONObject;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -26,6 +29,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -81,6 +85,60 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the elements of the array {@code arrayName} of the JSON object in the given file one at a time, passing
+     * each to {@code elementReader} as soon as it is read, and returns false if the file is not found.
+     * The file is streamed rather than read into memory first, and other fields of the object are skipped over, so
+     * only one element at a time is ever held, however large the file is.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @throws DataLoadingException if loading of the JSON file failed, or the object has no array {@code arrayName}.
+     * @throws IllegalValueException if {@code elementReader} finds an element invalid. No more elements are read.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayName, Class<T> elementClass,
+            ElementReader<T> elementReader) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayName);
+        requireNonNull(elementClass);
+        requireNonNull(elementReader);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream in = Files.newInputStream(filePath);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Expected a JSON object");
+            }
+            boolean isArrayFound = false;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IOException("Expected \"" + arrayName + "\" to be an array");
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementReader.read(objectMapper.readValue(parser, elementClass));
+                }
+                isArrayFound = true;
+            }
+            if (!isArrayFound) {
+                throw new IOException("Missing array \"" + arrayName + "\"");
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -132,6 +190,29 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, all on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toSingleLineJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Reads an element of a JSON array as it is read from a file.
+     */
+    @FunctionalInterface
+    public interface ElementReader<T> {
+        /**
+         * Reads {@code element}.
+         *
+         * @throws IllegalValueException if the element is invalid.
+         */
+        void read(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
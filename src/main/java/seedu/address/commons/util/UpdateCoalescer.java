@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Collects updates to state shown in the UI and applies them together, at most once per pulse of the JavaFX
+ * application thread, however quickly they are made. A burst of changes made off the UI thread therefore costs
+ * the UI a single round of listeners and layout per frame instead of one per change.
+ *
+ * Updates made on the UI thread, or before the UI has started, are applied right away, after any still waiting.
+ * Updates are always applied in the order they were submitted.
+ *
+ * @param <T> the type of the updates.
+ */
+public class UpdateCoalescer<T> {
+
+    private final Consumer<List<T>> applier;
+    private final BooleanSupplier canApplyNow;
+    private final Consumer<Runnable> scheduler;
+
+    private List<T> pendingUpdates = new ArrayList<>();
+    private boolean isApplyScheduled;
+
+    /**
+     * Constructs a coalescer that hands each batch of updates, in the order they were submitted, to {@code applier}.
+     */
+    public UpdateCoalescer(Consumer<List<T>> applier) {
+        this(applier, FxUtil::isUiThread, FxUtil::runOnNextPulse);
+    }
+
+    /**
+     * Constructs a coalescer that applies updates right away while {@code canApplyNow} holds, and otherwise
+     * has {@code scheduler} apply them later.
+     */
+    UpdateCoalescer(Consumer<List<T>> applier, BooleanSupplier canApplyNow, Consumer<Runnable> scheduler) {
+        requireNonNull(applier);
+        requireNonNull(canApplyNow);
+        requireNonNull(scheduler);
+        this.applier = applier;
+        this.canApplyNow = canApplyNow;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Submits {@code update}, to be applied along with any others submitted before it is applied.
+     */
+    public void submit(T update) {
+        requireNonNull(update);
+        boolean needsScheduling;
+        synchronized (this) {
+            pendingUpdates.add(update);
+            needsScheduling = !isApplyScheduled;
+            isApplyScheduled = true;
+        }
+
+        if (canApplyNow.getAsBoolean()) {
+            applyPendingUpdates();
+        } else if (needsScheduling) {
+            scheduler.accept(this::applyPendingUpdates);
+        }
+    }
+
+    /**
+     * Applies all updates submitted so far that have not been applied yet.
+     */
+    private void applyPendingUpdates() {
+        List<T> updates;
+        synchronized (this) {
+            updates = pendingUpdates;
+            pendingUpdates = new ArrayList<>();
+            isApplyScheduled = false;
+        }
+        if (!updates.isEmpty()) {
+            applier.accept(updates);
+        }
+    }
+}
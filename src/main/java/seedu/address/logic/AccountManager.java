@@ -15,13 +15,16 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UndoJournal;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.tag.TagList;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonTagListStorage;
+import seedu.address.storage.JsonUndoJournal;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ParallelLoader;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -35,9 +38,18 @@ import seedu.address.storage.UserPrefsStorage;
  * It works closely with the application's logic layer to update the application state based on the current user.
  */
 public class AccountManager {
+    /** The key under which the model shown while no user is logged in is cached. No username is empty. */
+    private static final String LOGGED_OUT_CACHE_KEY = "";
+
     private AccountList accountList = new AccountList();
     private Account currentAccount;
     private Logic logic;
+    private UndoJournal undoJournal;
+    private final UserModelCache modelCache = new UserModelCache();
+    /** The model this account manager last set, the storage it is saved to, and the key it is cached under. */
+    private ModelManager currentModel;
+    private Storage currentStorage;
+    private String currentCacheKey;
 
     private boolean isUserLogin = false;
 
@@ -67,13 +79,17 @@ public class AccountManager {
      * Logs in the specified account by setting it as the current account and loading its associated data.
      * It triggers the update of the ModelManager for the user to
      * ensure the application's state reflects the user's data.
+     * The data of recently used accounts is kept in memory, so switching back to one of them is instant.
      *
      * @param account The account object representing the user that is logging in.
      */
     public void login(Account account) {
         this.currentAccount = account;
         Username username = account.getUsername();
-        updateModelManagerForUser(username.getUsername());
+        cacheCurrentModel();
+        if (!useCachedModel(username.getUsername())) {
+            updateModelManagerForUser(username.getUsername());
+        }
         isUserLogin = true;
     }
 
@@ -84,7 +100,10 @@ public class AccountManager {
      */
     public void logout() {
         this.currentAccount = null;
-        clearModelManagerAfterLogOut();
+        cacheCurrentModel();
+        if (!useCachedModel(LOGGED_OUT_CACHE_KEY)) {
+            clearModelManagerAfterLogOut();
+        }
         this.isUserLogin = false;
     }
 
@@ -108,13 +127,19 @@ public class AccountManager {
      */
     private void updateModelManagerForUser(String username) {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(Paths.get("data", username + ".json"));
-        UserPrefs userPrefs = loadUserPrefs(userPrefsStorage);
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(
                 Paths.get("data", username + "addressbook.json"));
         JsonTagListStorage tagListStorage = new JsonTagListStorage(Paths.get("data", "taglist.json"));
         Storage storage = new StorageManager(addressBookStorage, userPrefsStorage, tagListStorage);
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
+        // None of the user's files depend on another, so all three are loaded at the same time
+        ParallelLoader loader = new ParallelLoader();
+        ParallelLoader.Load<Optional<ReadOnlyAddressBook>> addressBookLoad =
+                loader.load("address book", storage::readAddressBook);
+        ParallelLoader.Load<Optional<TagList>> tagListLoad = loader.load("tag list", storage::readTagList);
+        UserPrefs userPrefs = loader.run("user prefs", () -> loadUserPrefs(userPrefsStorage));
+
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
 
@@ -122,14 +147,14 @@ public class AccountManager {
         TagList initialTagList;
 
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = addressBookLoad.get();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
 
-            tagListOptional = storage.readTagList();
+            tagListOptional = tagListLoad.get();
             if (!tagListOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getTagListFilePath());
             }
@@ -143,9 +168,15 @@ public class AccountManager {
             initialData = new AddressBook();
             initialTagList = TagList.getSampleTagList();
         }
+        logger.info("Loaded data: " + loader.getTimings());
 
-        logic.setModel(new ModelManager(initialData, userPrefs, initialTagList));
-        logic.setStorage(storage);
+        // The journal is only read if the user asks to undo or redo, so it does not slow down logging in
+        closeCurrentUndoJournal();
+        undoJournal = new JsonUndoJournal(Paths.get("data", username + "undojournal.jsonl"));
+        ModelManager modelManager = new ModelManager(initialData, userPrefs, initialTagList);
+        modelManager.linkToUndoJournal(undoJournal);
+
+        setModel(username, modelManager, storage);
         System.out.println("ModelManager updated for user: " + userPrefs.getAddressBookFilePath());
     }
 
@@ -163,6 +194,11 @@ public class AccountManager {
 
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
+        ParallelLoader loader = new ParallelLoader();
+        ParallelLoader.Load<Optional<ReadOnlyAddressBook>> addressBookLoad =
+                loader.load("address book", storage::readAddressBook);
+        ParallelLoader.Load<Optional<TagList>> tagListLoad = loader.load("tag list", storage::readTagList);
+
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
 
@@ -170,14 +206,14 @@ public class AccountManager {
         TagList initialTagList;
 
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = addressBookLoad.get();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
 
-            tagListOptional = storage.readTagList();
+            tagListOptional = tagListLoad.get();
             if (!tagListOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getTagListFilePath());
             }
@@ -191,8 +227,48 @@ public class AccountManager {
             initialData = new AddressBook();
             initialTagList = new TagList();
         }
+        logger.info("Loaded data: " + loader.getTimings());
 
-        logic.setModel(new ModelManager(initialData, userPrefs, initialTagList));
+        setModel(LOGGED_OUT_CACHE_KEY, new ModelManager(initialData, userPrefs, initialTagList), storage);
+    }
+
+    /**
+     * Sets {@code model}, saved to {@code storage}, as the model of the app, to be cached under {@code cacheKey}
+     * when it is replaced.
+     */
+    private void setModel(String cacheKey, ModelManager model, Storage storage) {
+        logic.setModel(model);
+        logic.setStorage(storage);
+        currentModel = model;
+        currentStorage = storage;
+        currentCacheKey = cacheKey;
+    }
+
+    /**
+     * Hands the current model, along with its undo journal, over to the cache before it is replaced.
+     */
+    private void cacheCurrentModel() {
+        if (currentModel != null) {
+            modelCache.put(currentCacheKey, currentModel, currentStorage, undoJournal);
+            undoJournal = null;
+            currentModel = null;
+        }
+        closeCurrentUndoJournal();
+    }
+
+    /**
+     * Sets the model cached under {@code cacheKey}, if it is still up to date, as the model of the app.
+     * Returns false if there is no such model.
+     */
+    private boolean useCachedModel(String cacheKey) {
+        Optional<UserModelCache.CachedModel> cachedModel = modelCache.take(cacheKey);
+        if (cachedModel.isEmpty()) {
+            return false;
+        }
+        logger.info("Using cached data file : " + cachedModel.get().getStorage().getAddressBookFilePath());
+        undoJournal = cachedModel.get().getUndoJournal();
+        setModel(cacheKey, cachedModel.get().getModel(), cachedModel.get().getStorage());
+        return true;
     }
 
     /**
@@ -258,6 +334,22 @@ public class AccountManager {
         return initializedPrefs;
     }
 
+    /**
+     * Finishes writing the undo journals of the current user and of the users whose data is cached, and releases
+     * them.
+     */
+    public void closeUndoJournal() {
+        closeCurrentUndoJournal();
+        modelCache.clear();
+    }
+
+    private void closeCurrentUndoJournal() {
+        if (undoJournal != null) {
+            undoJournal.close();
+            undoJournal = null;
+        }
+    }
+
     /**
      * Returns the login status of the current session.
      *
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.account.exception.AccountException;
@@ -26,6 +28,33 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws AccountException, CommandException, ParseException;
 
+    /**
+     * Executes the commands in order as one transaction and returns their results.
+     * Their changes are shown in one update, undone as one command and saved once, after the last command.
+     * If any command fails, the changes made by the earlier ones are rolled back and nothing is saved.
+     * @param commandTexts The commands, as they would be entered by the user.
+     * @return the results of the commands, in order.
+     * @throws CommandException If an error occurs during the execution of a command, or it is an account command.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    List<CommandResult> executeTransaction(List<String> commandTexts)
+            throws AccountException, CommandException, ParseException;
+
+    /**
+     * Executes the command on a background thread and returns its eventual result.
+     * Commands are executed one at a time, in the order they were given, so that only one thread ever changes
+     * the model. The returned future completes on that thread, exceptionally with the {@code AccountException},
+     * {@code CommandException} or {@code ParseException} that {@link #execute(String)} would have thrown.
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText);
+
+    /**
+     * Waits for the commands already given to {@link #executeInBackground(String)} to finish, and stops
+     * executing commands in the background.
+     */
+    void close();
+
     /**
      * Returns the AddressBook.
      *
@@ -3,6 +3,13 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -22,6 +29,7 @@ import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Commands executed in the background all run on one thread, which is then the only thread that changes the model.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -29,14 +37,22 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_ACCOUNT_COMMAND_IN_TRANSACTION =
+            "Account commands cannot be run together with other commands: %s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
-    private Model model;
-    private Storage storage;
+    private volatile Model model;
+    private volatile Storage storage;
     private final AddressBookParser addressBookParser;
 
     private final AccountManagerParser accountManagerParser = new AccountManagerParser();
     private final AccountManager accountManager;
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-executor");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -65,20 +81,81 @@ public class LogicManager implements Logic {
         } else {
             command = addressBookParser.parseCommand(commandText);
             commandResult = command.execute(model);
+            saveData();
+        }
+        return commandResult;
+    }
 
-            try {
-                storage.saveAddressBook(model.getAddressBook());
-                storage.saveUserPrefs(model.getUserPrefs());
-                storage.saveTagList(model.getTagList());
-            } catch (AccessDeniedException e) {
-                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-            } catch (IOException ioe) {
-                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    @Override
+    public List<CommandResult> executeTransaction(List<String> commandTexts)
+            throws AccountException, CommandException, ParseException {
+        logger.info("----------------[USER TRANSACTION][" + commandTexts.size() + " command(s)]");
+        List<CommandResult> commandResults = new ArrayList<>();
+
+        model.beginTransaction();
+        try {
+            for (String commandText : commandTexts) {
+                logger.fine("Executing in transaction: " + commandText);
+                if (AccountManagerParser.parseCommand(commandText) != null) {
+                    throw new CommandException(String.format(MESSAGE_ACCOUNT_COMMAND_IN_TRANSACTION, commandText));
+                }
+                Command command = addressBookParser.parseCommand(commandText);
+                commandResults.add(command.execute(model));
             }
+        } catch (AccountException | CommandException | ParseException | RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        model.commitTransaction();
+
+        saveData();
+        return commandResults;
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeInBackground(String commandText) {
+        CompletableFuture<CommandResult> commandResult = new CompletableFuture<>();
+        try {
+            commandExecutor.execute(() -> {
+                try {
+                    commandResult.complete(execute(commandText));
+                } catch (AccountException | CommandException | ParseException | RuntimeException e) {
+                    commandResult.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            commandResult.completeExceptionally(e);
         }
         return commandResult;
     }
 
+    @Override
+    public void close() {
+        commandExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for the last commands to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Saves the address book, user prefs and tag list.
+     */
+    private void saveData() throws CommandException {
+        try {
+            storage.saveAddressBook(model.getAddressBook());
+            storage.saveUserPrefs(model.getUserPrefs());
+            storage.saveTagList(model.getTagList());
+        } catch (AccessDeniedException e) {
+            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+    }
+
     @Override
     public void setStorage(Storage storage) {
         this.storage = storage;
@@ -0,0 +1,173 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UndoJournal;
+import seedu.address.storage.Storage;
+
+/**
+ * The models of recently used accounts, kept in memory so that switching back to one of them does not read its
+ * data from disk again. Once there are more than {@code maxEntries} models, or their persons take up more than
+ * about {@code maxEstimatedBytes}, the least recently cached ones are evicted first.
+ *
+ * A model is only handed back if none of its files has changed since it was cached, for example because another
+ * instance of the app wrote to it or another user changed the shared tag list.
+ */
+class UserModelCache {
+    static final int DEFAULT_MAX_ENTRIES = 8;
+    static final long DEFAULT_MAX_ESTIMATED_BYTES = 64L * 1024 * 1024;
+
+    /** Rough size of a typical person, with its fields and tags. */
+    private static final long ESTIMATED_TYPICAL_PERSON_BYTES = 400;
+
+    private static final Logger logger = LogsCenter.getLogger(UserModelCache.class);
+
+    private final int maxEntries;
+    private final long maxEstimatedBytes;
+    private final Map<String, CachedModel> cachedModels = new LinkedHashMap<>(16, 0.75f, true);
+    private long estimatedBytes;
+
+    UserModelCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_ESTIMATED_BYTES);
+    }
+
+    UserModelCache(int maxEntries, long maxEstimatedBytes) {
+        this.maxEntries = maxEntries;
+        this.maxEstimatedBytes = maxEstimatedBytes;
+    }
+
+    /**
+     * Caches {@code model}, loaded from and saved to {@code storage}, under {@code key}. The cache takes over
+     * {@code undoJournal}, which may be null, and closes it once the model is evicted.
+     * The model must have been saved to {@code storage}, as it is reused only while its files stay as they are now.
+     */
+    synchronized void put(String key, ModelManager model, Storage storage, UndoJournal undoJournal) {
+        requireNonNull(key);
+        requireNonNull(model);
+        requireNonNull(storage);
+        CachedModel cachedModel = new CachedModel(model, storage, undoJournal);
+        evict(cachedModels.remove(key));
+        cachedModels.put(key, cachedModel);
+        estimatedBytes += cachedModel.estimatedBytes;
+
+        Iterator<CachedModel> leastRecentlyCached = cachedModels.values().iterator();
+        while (cachedModels.size() > maxEntries || estimatedBytes > maxEstimatedBytes) {
+            CachedModel evicted = leastRecentlyCached.next();
+            leastRecentlyCached.remove();
+            evict(evicted);
+        }
+    }
+
+    /**
+     * Removes and returns the model cached under {@code key}, if there is one and its files have not changed
+     * since it was cached.
+     */
+    synchronized Optional<CachedModel> take(String key) {
+        requireNonNull(key);
+        CachedModel cachedModel = cachedModels.remove(key);
+        if (cachedModel == null) {
+            return Optional.empty();
+        }
+        if (!cachedModel.isUpToDate()) {
+            logger.info("Data files of " + key + " changed since its model was cached; loading them again");
+            evict(cachedModel);
+            return Optional.empty();
+        }
+        estimatedBytes -= cachedModel.estimatedBytes;
+        return Optional.of(cachedModel);
+    }
+
+    /**
+     * Evicts all cached models.
+     */
+    synchronized void clear() {
+        cachedModels.values().forEach(this::evict);
+        cachedModels.clear();
+    }
+
+    synchronized int size() {
+        return cachedModels.size();
+    }
+
+    private void evict(CachedModel cachedModel) {
+        if (cachedModel == null) {
+            return;
+        }
+        estimatedBytes -= cachedModel.estimatedBytes;
+        if (cachedModel.undoJournal != null) {
+            cachedModel.undoJournal.close();
+        }
+    }
+
+    /**
+     * A cached model, with the storage it is saved to and its undo journal.
+     */
+    static final class CachedModel {
+        private final ModelManager model;
+        private final Storage storage;
+        private final UndoJournal undoJournal;
+        private final List<Path> filePaths;
+        private final List<String> fileStamps;
+        private final long estimatedBytes;
+
+        private CachedModel(ModelManager model, Storage storage, UndoJournal undoJournal) {
+            this.model = model;
+            this.storage = storage;
+            this.undoJournal = undoJournal;
+            filePaths = List.of(storage.getAddressBookFilePath(), storage.getTagListFilePath(),
+                    storage.getUserPrefsFilePath());
+            fileStamps = stampFiles(filePaths);
+            estimatedBytes = model.getAddressBook().getPersonList().size() * ESTIMATED_TYPICAL_PERSON_BYTES;
+        }
+
+        ModelManager getModel() {
+            return model;
+        }
+
+        Storage getStorage() {
+            return storage;
+        }
+
+        /**
+         * Returns the undo journal of the model, or null if it has none.
+         */
+        UndoJournal getUndoJournal() {
+            return undoJournal;
+        }
+
+        private boolean isUpToDate() {
+            return fileStamps.equals(stampFiles(filePaths));
+        }
+
+        /**
+         * Returns the last modified time and size of each of {@code filePaths}, which change whenever a file is
+         * written to. A file that does not exist or cannot be read is stamped as such.
+         */
+        private static List<String> stampFiles(List<Path> filePaths) {
+            List<String> stamps = new ArrayList<>();
+            for (Path filePath : filePaths) {
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+                    stamps.add(attributes.lastModifiedTime() + "/" + attributes.size());
+                } catch (IOException e) {
+                    stamps.add("missing");
+                }
+            }
+            return stamps;
+        }
+    }
+}
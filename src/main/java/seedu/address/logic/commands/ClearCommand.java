@@ -27,7 +27,7 @@ public class ClearCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        addressBookBeforeClear = new AddressBook(model.getAddressBook());
+        addressBookBeforeClear = model.getAddressBook().snapshot();
         model.setAddressBook(new AddressBook());
         model.addExecutedCommand(this);
         return new CommandResult(MESSAGE_SUCCESS);
@@ -2,8 +2,6 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -47,26 +45,12 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        boolean isAnyRecordDeleted = false;
-        String deletedInformation = "";
-        for (Person person : lastShownList) {
-            if (person.getId().equals(this.targetId)) {
-                personToDelete = person;
-                model.deletePerson(personToDelete);
-                isAnyRecordDeleted = true;
-                deletedInformation = Messages.format(personToDelete);
-                break;
-            }
-        }
-
-        if (!isAnyRecordDeleted) {
-            throw new CommandException(String.format(MESSAGE_ID_NOT_FOUND, this.targetId.toString()));
-        }
+        personToDelete = model.getFilteredPersonById(targetId)
+                .orElseThrow(() -> new CommandException(String.format(MESSAGE_ID_NOT_FOUND, targetId.toString())));
+        model.deletePerson(personToDelete);
 
         model.addExecutedCommand(this);
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, deletedInformation));
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
     }
 
     /**
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_TAG_NOT_IN_TAG_LIST;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -46,17 +45,11 @@ public class DeleteTagCommand extends Command {
             throw new CommandException(String.format(MESSAGE_TAG_NOT_IN_TAG_LIST, toDelete));
         }
 
-        List<Person> personsWithToDeleteTag = new ArrayList<>();
-        for (Person person : model.getFilteredPersonList()) {
-            if (person.getTags().contains(toDelete)) {
-                personsWithToDeleteTag.add(person);
-            }
-        }
+        List<Person> personsWithToDeleteTag = model.getPersonsWithTag(toDelete);
 
         if (!personsWithToDeleteTag.isEmpty()) {
             StringBuilder sb = new StringBuilder();
             for (Person p : personsWithToDeleteTag) {
-                System.out.println(p.getName());
                 sb.append(p.getName() + ", ");
             }
             sb.append(String.format(MESSAGE_PERSON_CONTAIN_TAG, toDelete));
@@ -11,7 +11,6 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -78,25 +77,8 @@ public class EditCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        boolean isPersonExist = false;
-        personToEdit = new Person(new Name("test"),
-                new Id("test"), new Phone("123"), new HashSet<Tag>());
-
-        for (int i = 0; i < lastShownList.size(); i++) {
-            Person currentPerson = lastShownList.get(i);
-            if (currentPerson.getId().equals(id)) {
-                isPersonExist = true;
-                personToEdit = currentPerson;
-            }
-        }
-
-        if (!isPersonExist) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_ID);
-        }
-        assert !personToEdit.equals(new Person(new Name("test"), new Id("test"), new Phone("123"), new HashSet<>()))
-                : "Should not reach here";
+        personToEdit = model.getFilteredPersonById(id)
+                .orElseThrow(() -> new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_ID));
         editedPerson = createEditedPerson(personToEdit, editPersonDescriptor);
 
         if (!personToEdit.isSamePerson(editedPerson) && model.hasPerson(editedPerson)) {
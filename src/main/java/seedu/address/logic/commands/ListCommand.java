@@ -19,7 +19,7 @@ public class ListCommand extends Command {
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " alice bob charlie\n"
             + "`ls -a` list all persons in the contacts.\n"
-            + "`ls -t` list all tags in the tag list";
+            + "`ls -t` list all tags in the tag list, with the number of persons that have each tag";
 
     public static final String MESSAGE_SUCCESS = "Listed all persons";
 
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.Messages.MESSAGE_TAG_NOT_IN_TAG_LIST;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Merges a tag into another tag that already exists: every person with the first tag gets the second tag instead,
+ * and the first tag is removed from the tag list.
+ */
+public class MergeTagCommand extends RenameTagCommand {
+
+    public static final String COMMAND_WORD = "tag&";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Merge a tag into another tag, on every contact "
+            + "that has it.\n"
+            + "Format: tag& OLD_TAG EXISTING_TAG\n"
+            + "Example: tag& Recruiting HR\n"
+            + "NOTE: Tags are case-sensitive.";
+
+    public static final String MESSAGE_SUCCESS = "Tag %1$s merged into %2$s on %3$d contact(s)";
+
+    /**
+     * Creates a MergeTagCommand to merge the tag {@code from} into {@code to}.
+     */
+    public MergeTagCommand(Tag from, Tag to) {
+        super(from, to);
+    }
+
+    @Override
+    protected void checkNewTag(Model model) throws CommandException {
+        if (!model.hasTag(to)) {
+            throw new CommandException(String.format(MESSAGE_TAG_NOT_IN_TAG_LIST, to));
+        }
+    }
+
+    @Override
+    protected String getSuccessMessage() {
+        return String.format(MESSAGE_SUCCESS, from, to, getEdits().size());
+    }
+}
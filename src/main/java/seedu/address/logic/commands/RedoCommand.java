@@ -16,6 +16,8 @@ public class RedoCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redo the most recent redone command. ";
     public static final String MESSAGE_REDO_SUCCESS = "The command has been redone.";
     public static final String MESSAGE_REDO_FAILURE = "There is no more command to redo!";
+    public static final String MESSAGE_REDO_HISTORY_DISCARDED =
+            "The undo history no longer matches the address book and has been cleared.";
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
@@ -25,7 +27,9 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_REDO_FAILURE);
         }
 
-        model.redoCommand();
+        if (!model.redoCommand()) {
+            throw new CommandException(MESSAGE_REDO_HISTORY_DISCARDED);
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_REDO_SUCCESS);
     }
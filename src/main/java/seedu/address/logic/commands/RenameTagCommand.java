@@ -0,0 +1,164 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_TAG_NOT_IN_TAG_LIST;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.ChangeRecord;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Renames a tag in the tag list, and on every person that has it.
+ *
+ * Only the persons with the tag are looked at, and they are all replaced in one change together with the change to
+ * the tag list, so they are shown, saved and undone together, however many there are.
+ */
+public class RenameTagCommand extends Command {
+
+    public static final String COMMAND_WORD = "tag~";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Rename a tag, on every contact that has it.\n"
+            + "Format: tag~ OLD_TAG NEW_TAG\n"
+            + "Example: tag~ HR PeopleOps\n"
+            + "NOTE: Tags are case-sensitive.";
+
+    public static final String MESSAGE_SUCCESS = "Tag %1$s renamed to %2$s on %3$d contact(s)";
+
+    public static final String MESSAGE_DUPLICATE_TAG = "%1$s tag already exists. Use tag& to merge the tags instead.";
+
+    public static final String MESSAGE_SAME_TAG = "The old and new tags are the same.";
+
+    protected final Tag from;
+    protected final Tag to;
+    private List<ChangeRecord> edits;
+    private ChangeRecord tagListChange;
+
+    /**
+     * Creates a RenameTagCommand to rename the tag {@code from} to {@code to}.
+     */
+    public RenameTagCommand(Tag from, Tag to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (from.equals(to)) {
+            throw new CommandException(MESSAGE_SAME_TAG);
+        }
+        if (!model.hasTag(from)) {
+            throw new CommandException(String.format(MESSAGE_TAG_NOT_IN_TAG_LIST, from));
+        }
+        checkNewTag(model);
+
+        List<Person> personsWithTag = new ArrayList<>(model.getPersonsWithTag(from));
+        List<Person> editedPersons = new ArrayList<>(personsWithTag.size());
+        edits = new ArrayList<>(personsWithTag.size());
+        for (Person person : personsWithTag) {
+            Person editedPerson = createRetaggedPerson(person);
+            editedPersons.add(editedPerson);
+            edits.add(ChangeRecord.ofEdit(person, editedPerson));
+        }
+        tagListChange = ChangeRecord.ofTags(List.of(from), model.hasTag(to) ? List.of() : List.of(to));
+
+        boolean isOwnTransaction = !model.isInTransaction();
+        if (isOwnTransaction) {
+            model.beginTransaction();
+        }
+        try {
+            model.setPersons(personsWithTag, editedPersons);
+            model.deleteTag(from);
+            for (Tag tag : tagListChange.getTagsAdded()) {
+                model.addTag(tag);
+            }
+            model.addExecutedCommand(this);
+        } catch (RuntimeException e) {
+            if (isOwnTransaction) {
+                model.rollbackTransaction();
+            }
+            throw e;
+        }
+        if (isOwnTransaction) {
+            model.commitTransaction();
+        }
+
+        return new CommandResult(getSuccessMessage());
+    }
+
+    /**
+     * Checks that {@code to} can be the new name of the tag.
+     */
+    protected void checkNewTag(Model model) throws CommandException {
+        if (model.hasTag(to)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_TAG, to));
+        }
+    }
+
+    protected String getSuccessMessage() {
+        return String.format(MESSAGE_SUCCESS, from, to, edits.size());
+    }
+
+    /**
+     * Returns the records of the persons changed by the last execution of this command, in the order they
+     * were changed.
+     */
+    public List<ChangeRecord> getEdits() {
+        return Collections.unmodifiableList(edits);
+    }
+
+    /**
+     * Returns the records of everything changed by the last execution of this command, in the order it was
+     * changed: the persons, then the tag list.
+     */
+    public List<ChangeRecord> getChanges() {
+        List<ChangeRecord> changes = new ArrayList<>(edits);
+        changes.add(tagListChange);
+        return changes;
+    }
+
+    /**
+     * Returns {@code person} with {@code to} in place of {@code from}.
+     */
+    private Person createRetaggedPerson(Person person) {
+        Set<Tag> tags = new HashSet<>(person.getTags());
+        tags.remove(from);
+        tags.add(to);
+        return new Person(person.getName(), person.getId(), person.getPhone(), tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // getClass() tells renaming and merging apart, and handles nulls
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        RenameTagCommand otherCommand = (RenameTagCommand) other;
+        return from.equals(otherCommand.from) && to.equals(otherCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
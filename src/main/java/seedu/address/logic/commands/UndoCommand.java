@@ -15,6 +15,8 @@ public class UndoCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undo the last executed command. ";
     public static final String MESSAGE_UNDO_SUCCESS = "The command has been undone.";
     public static final String MESSAGE_UNDO_FAILURE = "There is no more command to undo!";
+    public static final String MESSAGE_UNDO_HISTORY_DISCARDED =
+            "The undo history no longer matches the address book and has been cleared.";
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
@@ -24,7 +26,9 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_UNDO_FAILURE);
         }
 
-        model.undoCommand();
+        if (!model.undoCommand()) {
+            throw new CommandException(MESSAGE_UNDO_HISTORY_DISCARDED);
+        }
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_UNDO_SUCCESS);
     }
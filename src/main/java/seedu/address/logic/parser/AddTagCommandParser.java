@@ -25,7 +25,7 @@ public class AddTagCommandParser implements Parser<AddTagCommand> {
         }
 
         try {
-            return new AddTagCommand(new Tag(trimmedArgs));
+            return new AddTagCommand(Tag.of(trimmedArgs));
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
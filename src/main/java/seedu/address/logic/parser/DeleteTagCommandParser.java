@@ -25,7 +25,7 @@ public class DeleteTagCommandParser implements Parser<DeleteTagCommand> {
         }
 
         try {
-            return new DeleteTagCommand(new Tag(trimmedArgs));
+            return new DeleteTagCommand(Tag.of(trimmedArgs));
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
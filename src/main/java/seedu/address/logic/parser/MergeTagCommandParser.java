@@ -0,0 +1,21 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.MergeTagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new MergeTagCommand object
+ */
+public class MergeTagCommandParser implements Parser<MergeTagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeTagCommand
+     * and returns a MergeTagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MergeTagCommand parse(String args) throws ParseException {
+        Tag[] tags = RenameTagCommandParser.parseTwoTags(args, MergeTagCommand.MESSAGE_USAGE);
+        return new MergeTagCommand(tags[0], tags[1]);
+    }
+}
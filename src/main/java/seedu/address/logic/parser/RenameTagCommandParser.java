@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.RenameTagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new RenameTagCommand object
+ */
+public class RenameTagCommandParser implements Parser<RenameTagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RenameTagCommand
+     * and returns a RenameTagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RenameTagCommand parse(String args) throws ParseException {
+        Tag[] tags = parseTwoTags(args, RenameTagCommand.MESSAGE_USAGE);
+        return new RenameTagCommand(tags[0], tags[1]);
+    }
+
+    /**
+     * Parses {@code args} into the two tags it names, separated by whitespace.
+     * @throws ParseException if {@code args} does not name exactly two valid tags
+     */
+    static Tag[] parseTwoTags(String args, String messageUsage) throws ParseException {
+        String[] tagNames = args.trim().split("\\s+");
+        if (tagNames.length != 2 || tagNames[0].isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+        return new Tag[] {ParserUtil.parseTag(tagNames[0]), ParserUtil.parseTag(tagNames[1])};
+    }
+}
@@ -3,11 +3,16 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Id;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -54,7 +59,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
+        if (newData instanceof Snapshot) {
+            persons.setPersons(((Snapshot) newData).persons);
+        } else if (newData instanceof AddressBook) {
+            persons.setPersons(((AddressBook) newData).persons);
+        } else {
+            setPersons(newData.getPersonList());
+        }
     }
 
     //// person-level operations
@@ -67,6 +78,38 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the given {@code id}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Person> getPersonById(Id id) {
+        requireNonNull(id);
+        return persons.getPersonById(id);
+    }
+
+    /**
+     * Returns the number of persons in the address book with {@code tag}, in O(1).
+     */
+    public int countPersonsWithTag(Tag tag) {
+        return persons.countPersonsWithTag(tag);
+    }
+
+    /**
+     * Returns the number of persons in the address book with each tag.
+     * Later changes to the address book do not affect the returned counts.
+     *
+     * @see UniquePersonList#getTagUsageCounts()
+     */
+    public ToIntFunction<Tag> getTagUsageCounts() {
+        return persons.getTagUsageCounts();
+    }
+
+    /**
+     * Returns the persons in the address book with {@code tag}, in the order they are listed in.
+     */
+    public List<Person> getPersonsWithTag(Tag tag) {
+        return persons.getPersonsWithTag(tag);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -86,6 +129,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.setPerson(target, editedPerson);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * as a single change.
+     * Each target must exist in the address book. The person identity of each edited person must not be the same as
+     * another edited person, or another existing person in the address book.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        persons.setPersons(targets, editedPersons);
+    }
+
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
@@ -94,8 +147,50 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    //// transactions
+
+    /**
+     * Starts a transaction, during which changes to the address book are not shown in {@link #getPersonList()}.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    public void beginTransaction() {
+        persons.beginTransaction();
+    }
+
+    /**
+     * Ends the current transaction, showing all of its changes in {@link #getPersonList()} as a single change.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    public void commitTransaction() {
+        persons.commitTransaction();
+    }
+
+    /**
+     * Ends the current transaction, undoing all of its changes.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    public void rollbackTransaction() {
+        persons.rollbackTransaction();
+    }
+
+    public boolean isInTransaction() {
+        return persons.isInTransaction();
+    }
+
     //// util methods
 
+    /**
+     * Returns an immutable snapshot of this address book in O(1), sharing its persons with this address book.
+     * Resetting an address book to the snapshot later does not need to check or sort the persons again.
+     */
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return new Snapshot(persons.snapshot());
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
@@ -127,4 +222,36 @@ public class AddressBook implements ReadOnlyAddressBook {
     public int hashCode() {
         return persons.hashCode();
     }
+
+    /**
+     * An immutable snapshot of the persons in an {@code AddressBook}.
+     */
+    private static final class Snapshot implements ReadOnlyAddressBook {
+        private final UniquePersonList.Snapshot persons;
+        private ObservableList<Person> personList;
+
+        Snapshot(UniquePersonList.Snapshot persons) {
+            this.persons = persons;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            if (personList == null) {
+                personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+            }
+            return personList;
+        }
+
+        @Override
+        public ReadOnlyAddressBook snapshot() {
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("persons", persons.asList())
+                    .toString();
+        }
+    }
 }
@@ -0,0 +1,185 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Records a change made to the address book, with enough detail to undo and redo it.
+ * Unlike the command that made the change, a record can be saved and restored in a later session.
+ */
+public final class ChangeRecord {
+
+    /**
+     * The kinds of change that can be recorded.
+     */
+    public enum Kind {
+        ADD, DELETE, EDIT, CLEAR, GROUP, TAGS
+    }
+
+    private final Kind kind;
+    private final Person before;
+    private final Person after;
+    private final ReadOnlyAddressBook addressBookBeforeClear;
+    private final List<ChangeRecord> changes;
+    private final List<Tag> tagsRemoved;
+    private final List<Tag> tagsAdded;
+
+    private ChangeRecord(Kind kind, Person before, Person after, ReadOnlyAddressBook addressBookBeforeClear,
+            List<ChangeRecord> changes, List<Tag> tagsRemoved, List<Tag> tagsAdded) {
+        this.kind = kind;
+        this.before = before;
+        this.after = after;
+        this.addressBookBeforeClear = addressBookBeforeClear;
+        this.changes = changes;
+        this.tagsRemoved = tagsRemoved;
+        this.tagsAdded = tagsAdded;
+    }
+
+    /**
+     * Returns a record of {@code added} being added to the address book.
+     */
+    public static ChangeRecord ofAdd(Person added) {
+        requireNonNull(added);
+        return new ChangeRecord(Kind.ADD, null, added, null, null, null, null);
+    }
+
+    /**
+     * Returns a record of {@code deleted} being deleted from the address book.
+     */
+    public static ChangeRecord ofDelete(Person deleted) {
+        requireNonNull(deleted);
+        return new ChangeRecord(Kind.DELETE, deleted, null, null, null, null, null);
+    }
+
+    /**
+     * Returns a record of {@code before} being replaced by {@code after} in the address book.
+     */
+    public static ChangeRecord ofEdit(Person before, Person after) {
+        requireAllNonNull(before, after);
+        return new ChangeRecord(Kind.EDIT, before, after, null, null, null, null);
+    }
+
+    /**
+     * Returns a record of the address book being cleared, when it used to hold {@code addressBookBeforeClear}.
+     */
+    public static ChangeRecord ofClear(ReadOnlyAddressBook addressBookBeforeClear) {
+        requireNonNull(addressBookBeforeClear);
+        return new ChangeRecord(Kind.CLEAR, null, null, addressBookBeforeClear, null, null, null);
+    }
+
+    /**
+     * Returns a record of {@code changes} being made together, in order, so that they are undone and redone as one.
+     */
+    public static ChangeRecord ofGroup(List<ChangeRecord> changes) {
+        requireAllNonNull(changes);
+        return new ChangeRecord(Kind.GROUP, null, null, null, Collections.unmodifiableList(new ArrayList<>(changes)),
+                null, null);
+    }
+
+    /**
+     * Returns a record of {@code tagsRemoved} being removed from the tag list and {@code tagsAdded} being added to it.
+     */
+    public static ChangeRecord ofTags(List<Tag> tagsRemoved, List<Tag> tagsAdded) {
+        requireAllNonNull(tagsRemoved, tagsAdded);
+        return new ChangeRecord(Kind.TAGS, null, null, null, null, List.copyOf(tagsRemoved), List.copyOf(tagsAdded));
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the person as it was before the change, or null if the change added a person or cleared the
+     * address book.
+     */
+    public Person getBefore() {
+        return before;
+    }
+
+    /**
+     * Returns the person as it was after the change, or null if the change deleted a person or cleared the
+     * address book.
+     */
+    public Person getAfter() {
+        return after;
+    }
+
+    /**
+     * Returns the contents of the address book before it was cleared, or null if the change was not a clear.
+     */
+    public ReadOnlyAddressBook getAddressBookBeforeClear() {
+        return addressBookBeforeClear;
+    }
+
+    /**
+     * Returns the changes made together, in the order they were made, or null if the change was not a group.
+     */
+    public List<ChangeRecord> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the tags removed from the tag list, or null if the change was not to the tag list.
+     */
+    public List<Tag> getTagsRemoved() {
+        return tagsRemoved;
+    }
+
+    /**
+     * Returns the tags added to the tag list, or null if the change was not to the tag list.
+     */
+    public List<Tag> getTagsAdded() {
+        return tagsAdded;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ChangeRecord)) {
+            return false;
+        }
+
+        ChangeRecord otherRecord = (ChangeRecord) other;
+        return kind == otherRecord.kind
+                && Objects.equals(before, otherRecord.before)
+                && Objects.equals(after, otherRecord.after)
+                && Objects.equals(changes, otherRecord.changes)
+                && Objects.equals(tagsRemoved, otherRecord.tagsRemoved)
+                && Objects.equals(tagsAdded, otherRecord.tagsAdded)
+                && (addressBookBeforeClear == null
+                        ? otherRecord.addressBookBeforeClear == null
+                        : otherRecord.addressBookBeforeClear != null
+                                && addressBookBeforeClear.getPersonList().equals(
+                                        otherRecord.addressBookBeforeClear.getPersonList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, before, after, changes, tagsRemoved, tagsAdded);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("kind", kind)
+                .add("before", before)
+                .add("after", after)
+                .add("changes", changes)
+                .add("tagsRemoved", tagsRemoved)
+                .add("tagsAdded", tagsAdded)
+                .toString();
+    }
+}
@@ -0,0 +1,299 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Id;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonNameComparator;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * An immutable address book that holds its persons off the heap, a column per field, for address books of
+ * millions of persons.
+ *
+ * The names, ids and phone numbers are each held as one column of UTF-8 bytes in a direct buffer, and the tags of
+ * each person as a bitset over the ordinals of their names, so the persons take up next to no heap and give the
+ * garbage collector nothing to trace. A {@code Person} is only made when it is asked for, and is not kept, so using
+ * the list of persons costs only as much heap as the part of it in use. The persons are listed in the same order as
+ * in an {@link AddressBook}.
+ *
+ * Finding the persons with a name or tag scans the columns directly, without making any persons. Nothing is ever
+ * changed after the address book is built, so it can be read from any thread.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook {
+
+    private static final Comparator<Person> LISTING_ORDER = new PersonNameComparator().thenComparing(Person::getId);
+
+    private final int size;
+    private final StringColumn names;
+    private final StringColumn ids;
+    private final StringColumn phones;
+    /** The tags of each person, as {@link #tagWordsPerPerson} words of bitset each, as in a {@link TagSet}. */
+    private final LongBuffer tagWords;
+    private final int tagWordsPerPerson;
+    /** The bitset of the tags that any person has. */
+    private final long[] tagsInUse;
+    private ObservableList<Person> personList;
+
+    /**
+     * Creates a {@code ColumnarAddressBook} of the persons in {@code source}.
+     */
+    public ColumnarAddressBook(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        List<Person> persons = new ArrayList<>(source.getPersonList());
+        persons.sort(LISTING_ORDER);
+        size = persons.size();
+        names = new StringColumn(persons, person -> person.getName().fullName);
+        ids = new StringColumn(persons, person -> person.getId().value);
+        phones = new StringColumn(persons, person -> person.getPhone().toString());
+
+        int maxOrdinal = -1;
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                maxOrdinal = Math.max(maxOrdinal, tag.getOrdinal());
+            }
+        }
+        tagWordsPerPerson = (maxOrdinal + Long.SIZE) / Long.SIZE;
+        tagWords = ByteBuffer.allocateDirect(toBufferSize((long) size * tagWordsPerPerson * Long.BYTES))
+                .asLongBuffer();
+        tagsInUse = new long[tagWordsPerPerson];
+        for (int index = 0; index < size; index++) {
+            for (Tag tag : persons.get(index).getTags()) {
+                int ordinal = tag.getOrdinal();
+                int word = index * tagWordsPerPerson + (ordinal >>> 6);
+                tagWords.put(word, tagWords.get(word) | 1L << ordinal);
+                tagsInUse[ordinal >>> 6] |= 1L << ordinal;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of persons in the address book.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns a new {@code Person} with the details of the person at {@code index} in the list of persons.
+     */
+    public Person getPerson(int index) {
+        Objects.checkIndex(index, size);
+        long[] words = new long[tagWordsPerPerson];
+        for (int word = 0; word < tagWordsPerPerson; word++) {
+            words[word] = tagWords.get(index * tagWordsPerPerson + word);
+        }
+        return new Person(new Name(names.get(index)), new Id(ids.get(index)), new Phone(phones.get(index)),
+                TagSet.ofOrdinals(words));
+    }
+
+    /**
+     * Returns a view of the persons at {@code indexes} in the list of persons, in that order.
+     * Each person is made as it is read, and not kept.
+     */
+    public List<Person> getPersons(int[] indexes) {
+        requireNonNull(indexes);
+        int[] indexesCopy = indexes.clone();
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                return getPerson(indexesCopy[index]);
+            }
+
+            @Override
+            public int size() {
+                return indexesCopy.length;
+            }
+        };
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        if (personList == null) {
+            personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(new AbstractList<>() {
+                @Override
+                public Person get(int index) {
+                    return getPerson(index);
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            }));
+        }
+        return personList;
+    }
+
+    /**
+     * Returns the indexes, in the list of persons, of the persons whose names contain any of {@code keywords},
+     * ignoring case, as {@link NameContainsKeywordsPredicate} does.
+     */
+    public int[] findPersonsWithNameContainingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        // Names only ever hold ASCII letters, digits and spaces, so a keyword with any other character never matches
+        List<byte[]> asciiKeywords = new ArrayList<>();
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.toLowerCase();
+            if (lowerCaseKeyword.chars().allMatch(c -> c < 0x80)) {
+                asciiKeywords.add(lowerCaseKeyword.getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+        return findPersons(index -> {
+            for (byte[] keyword : asciiKeywords) {
+                if (names.containsIgnoringAsciiCase(index, keyword)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Returns the indexes, in the list of persons, of the persons with any tag whose name contains any of
+     * {@code keywords}, ignoring case, as {@link TagContainsKeywordsPredicate} does.
+     * Only the names of the tags in use are looked at; the persons are then found by their tag bitsets alone.
+     */
+    public int[] findPersonsWithTagContainingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        long[] matchingTags = new long[tagWordsPerPerson];
+        for (int word = 0; word < tagWordsPerPerson; word++) {
+            for (long bits = tagsInUse[word]; bits != 0; bits &= bits - 1) {
+                int ordinal = word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+                String lowerCaseTagName = Tag.ofOrdinal(ordinal).tagName.toLowerCase();
+                if (keywords.stream().anyMatch(keyword -> lowerCaseTagName.contains(keyword.toLowerCase()))) {
+                    matchingTags[word] |= 1L << ordinal;
+                }
+            }
+        }
+        return findPersonsWithAnyTag(matchingTags);
+    }
+
+    /**
+     * Returns the indexes, in the list of persons, of the persons with {@code tag}.
+     */
+    public int[] findPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        long[] matchingTags = new long[tagWordsPerPerson];
+        int ordinal = tag.getOrdinal();
+        if ((ordinal >>> 6) < tagWordsPerPerson) {
+            matchingTags[ordinal >>> 6] = 1L << ordinal;
+        }
+        return findPersonsWithAnyTag(matchingTags);
+    }
+
+    private int[] findPersonsWithAnyTag(long[] matchingTags) {
+        return findPersons(index -> {
+            for (int word = 0; word < tagWordsPerPerson; word++) {
+                if ((tagWords.get(index * tagWordsPerPerson + word) & matchingTags[word]) != 0) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private int[] findPersons(IntPredicate isMatch) {
+        return IntStream.range(0, size).filter(isMatch).toArray();
+    }
+
+    @Override
+    public ReadOnlyAddressBook snapshot() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("size", size)
+                .toString();
+    }
+
+    private static int toBufferSize(long bytes) {
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many persons to hold in one column: " + bytes + " bytes");
+        }
+        return (int) bytes;
+    }
+
+    /**
+     * A column of strings, held one after another as UTF-8 in a direct buffer, with the offset at which each
+     * starts held in another.
+     */
+    private static final class StringColumn {
+        /** The offset of each string in {@link #bytes}, followed by the end of the last string. */
+        private final IntBuffer offsets;
+        private final ByteBuffer bytes;
+
+        StringColumn(List<Person> persons, Function<Person, String> field) {
+            byte[][] encodedValues = new byte[persons.size()][];
+            long totalBytes = 0;
+            for (int index = 0; index < encodedValues.length; index++) {
+                encodedValues[index] = field.apply(persons.get(index)).getBytes(StandardCharsets.UTF_8);
+                totalBytes += encodedValues[index].length;
+            }
+            offsets = ByteBuffer.allocateDirect(toBufferSize((encodedValues.length + 1L) * Integer.BYTES))
+                    .asIntBuffer();
+            bytes = ByteBuffer.allocateDirect(toBufferSize(totalBytes));
+            for (int index = 0; index < encodedValues.length; index++) {
+                offsets.put(bytes.position());
+                bytes.put(encodedValues[index]);
+            }
+            offsets.put(bytes.position());
+        }
+
+        String get(int index) {
+            int start = offsets.get(index);
+            byte[] value = new byte[offsets.get(index + 1) - start];
+            for (int i = 0; i < value.length; i++) {
+                value[i] = bytes.get(start + i);
+            }
+            return new String(value, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Returns true if the string at {@code index} contains {@code lowerCaseKeyword}, a lower case ASCII string,
+         * with its ASCII letters in either case.
+         */
+        boolean containsIgnoringAsciiCase(int index, byte[] lowerCaseKeyword) {
+            int start = offsets.get(index);
+            int lastStart = offsets.get(index + 1) - lowerCaseKeyword.length;
+            for (int matchStart = start; matchStart <= lastStart; matchStart++) {
+                int i = 0;
+                while (i < lowerCaseKeyword.length
+                        && toAsciiLowerCase(bytes.get(matchStart + i)) == lowerCaseKeyword[i]) {
+                    i++;
+                }
+                if (i == lowerCaseKeyword.length) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static byte toAsciiLowerCase(byte b) {
+            return b >= 'A' && b <= 'Z' ? (byte) (b + ('a' - 'A')) : b;
+        }
+    }
+}
@@ -1,23 +1,55 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.RenameTagCommand;
+import seedu.address.model.person.Id;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * Maintains a list of all executed commands.
  * This class provides methods to log commands after execution,
  * and can be utilized to support undo/redo functionality by
  * keeping track of the command history.
+ *
+ * Each command is kept as the {@link ChangeRecord} of what it changed. The history is bounded both by number of
+ * commands and by the estimated number of bytes retained by the persons the records hold on to. When either bound
+ * is exceeded, the oldest commands are evicted first and can no longer be undone. The commands executed in one
+ * model transaction are kept as a single group, which is undone and redone as a whole.
+ *
+ * If an {@link UndoJournal} is linked, every change, undo and redo is also appended to it. The history recorded
+ * in the journal by earlier sessions is only read when it is first needed, the first time undo or redo is asked for.
  */
 public class CommandList {
-    private final List<Command> commandHistory;
+    public static final int DEFAULT_MAX_COMMANDS = 1000;
+    public static final long DEFAULT_MAX_ESTIMATED_BYTES = 64L * 1024 * 1024;
+
+    /** Rough size of a {@code Person} with empty fields: the object headers of the person, its fields and tags. */
+    private static final long ESTIMATED_PERSON_OVERHEAD_BYTES = 256;
+    private static final long ESTIMATED_TYPICAL_PERSON_BYTES = 400;
+    private static final long ESTIMATED_COMMAND_OVERHEAD_BYTES = 64;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandList.class);
+
+    private final List<ChangeRecord> commandHistory;
+    private final int maxCommands;
+    private final long maxEstimatedBytes;
+    private long estimatedBytes;
+    private long evictedCount;
 
     /**
      * The current index in the {@code commandHistory} list. This index tracks the position
@@ -25,6 +57,8 @@ public class CommandList {
      */
     private int currentCommandIndex;
     private Model model;
+    private UndoJournal journal;
+    private boolean isJournalledHistoryPending;
 
     /**
      * Constructs a new {@code CommandList} with an empty command history. This setup indicates
@@ -33,6 +67,20 @@ public class CommandList {
      * record executed commands for future undo and redo operations.
      */
     public CommandList() {
+        this(DEFAULT_MAX_COMMANDS, DEFAULT_MAX_ESTIMATED_BYTES);
+    }
+
+    /**
+     * Constructs a new {@code CommandList} with an empty command history that keeps at most
+     * {@code maxCommands} commands, retaining an estimated total of at most {@code maxEstimatedBytes} bytes.
+     * The most recent command is always kept, even if it alone exceeds {@code maxEstimatedBytes}.
+     */
+    public CommandList(int maxCommands, long maxEstimatedBytes) {
+        if (maxCommands < 1 || maxEstimatedBytes < 0) {
+            throw new IllegalArgumentException("History must hold at least one command and a non-negative size");
+        }
+        this.maxCommands = maxCommands;
+        this.maxEstimatedBytes = maxEstimatedBytes;
         commandHistory = new ArrayList<>();
         currentCommandIndex = -1;
     }
@@ -41,6 +89,15 @@ public class CommandList {
         this.model = model;
     }
 
+    /**
+     * Links this command list to {@code journal}, which changes will be appended to from now on.
+     * The history already in {@code journal} is read the first time undo or redo is asked for.
+     */
+    public void linkToJournal(UndoJournal journal) {
+        this.journal = journal;
+        isJournalledHistoryPending = true;
+    }
+
     /**
      * Adds the executed command to the command history.
      * This command can later be undone or redone.
@@ -48,55 +105,192 @@ public class CommandList {
      * @param command The command that was executed and is to be added to the history.
      */
     public void addCommand(Command command) {
+        addChange(toChangeRecord(command));
+    }
+
+    /**
+     * Adds {@code change} to the command history as a single command, which can later be undone or redone.
+     */
+    public void addChange(ChangeRecord change) {
         // Before adding a new command, clear any commands that were executed
         // after the current command's position in the history.
         // This is necessary because executing a new command after an undo operation
         // invalidates the subsequent redo history.
         while (commandHistory.size() > currentCommandIndex + 1) {
-            commandHistory.remove(commandHistory.size() - 1);
+            ChangeRecord discarded = commandHistory.remove(commandHistory.size() - 1);
+            estimatedBytes -= estimateRetainedBytes(discarded);
         }
-        commandHistory.add(command);
+        commandHistory.add(change);
+        estimatedBytes += estimateRetainedBytes(change);
         currentCommandIndex++;
+        evictOldestCommands();
+
+        if (journal != null) {
+            journal.appendChange(change);
+        }
+    }
+
+    /**
+     * Returns the record of what {@code command} changed.
+     */
+    static ChangeRecord toChangeRecord(Command command) {
+        if (command instanceof AddCommand) {
+            return ChangeRecord.ofAdd(((AddCommand) command).getPersonToAdd());
+        } else if (command instanceof DeleteCommand) {
+            return ChangeRecord.ofDelete(((DeleteCommand) command).getPersonToDelete());
+        } else if (command instanceof EditCommand) {
+            EditCommand editCommand = (EditCommand) command;
+            return ChangeRecord.ofEdit(editCommand.getPersonToEdit(), editCommand.getEditedPerson());
+        } else if (command instanceof ClearCommand) {
+            return ChangeRecord.ofClear(((ClearCommand) command).getAddressBookBeforeClear());
+        } else if (command instanceof RenameTagCommand) {
+            return ChangeRecord.ofGroup(((RenameTagCommand) command).getChanges());
+        }
+        throw new IllegalArgumentException("Command cannot be undone: " + command);
+    }
+
+    /**
+     * Evicts the oldest commands until the history is within its bounds again.
+     */
+    private void evictOldestCommands() {
+        int toEvict = 0;
+        long bytesToEvict = 0;
+        while (commandHistory.size() - toEvict > 1
+                && (commandHistory.size() - toEvict > maxCommands
+                        || estimatedBytes - bytesToEvict > maxEstimatedBytes)) {
+            bytesToEvict += estimateRetainedBytes(commandHistory.get(toEvict));
+            toEvict++;
+        }
+        if (toEvict == 0) {
+            return;
+        }
+        if (toEvict > currentCommandIndex + 1) {
+            // Undone commands can only be redone in order, so none of them can be kept without the earlier ones
+            toEvict = commandHistory.size();
+            bytesToEvict = estimatedBytes;
+        }
+
+        commandHistory.subList(0, toEvict).clear();
+        estimatedBytes -= bytesToEvict;
+        currentCommandIndex = Math.max(currentCommandIndex - toEvict, -1);
+        evictedCount += toEvict;
+        logger.fine("Evicted " + toEvict + " command(s) from the undo history; " + commandHistory.size()
+                + " command(s) and about " + estimatedBytes + " bytes retained");
+    }
+
+    /**
+     * Returns the number of commands currently in the history, including those that can be redone.
+     */
+    public int getHistorySize() {
+        return commandHistory.size();
+    }
+
+    /**
+     * Returns the estimated number of bytes retained by the commands currently in the history.
+     */
+    public long getEstimatedHistoryBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns the number of commands evicted from the history so far to keep it within its bounds.
+     */
+    public long getEvictedCount() {
+        return evictedCount;
     }
 
     /**
      * Reverts the most recent command, if possible.
      * This method identifies the type of the last executed command
      * and calls the corresponding undo method to reverse its effects.
+     *
+     * @return false if the command could not be undone because the address book no longer matches the history,
+     *     in which case the history is discarded.
      */
-    public void undo() {
-        Command lastCommand = commandHistory.get(currentCommandIndex);
-        if (lastCommand instanceof AddCommand) {
-            undoAdd((AddCommand) lastCommand);
-        } else if (lastCommand instanceof DeleteCommand) {
-            undoDelete((DeleteCommand) lastCommand);
-        } else if (lastCommand instanceof EditCommand) {
-            undoEdit((EditCommand) lastCommand);
-        } else if (lastCommand instanceof ClearCommand) {
-            undoClear((ClearCommand) lastCommand);
+    public boolean undo() {
+        loadJournalledHistory();
+        ChangeRecord lastChange = commandHistory.get(currentCommandIndex);
+        try {
+            undoChange(lastChange);
+        } catch (PersonNotFoundException | DuplicatePersonException e) {
+            discardHistory(lastChange);
+            return false;
         }
 
         currentCommandIndex--;
+        if (journal != null) {
+            journal.appendUndo();
+        }
+        return true;
     }
 
     /**
      * Reapplies the most recent undone command, if possible.
      * This method identifies the type of the last executed command
      * and calls the corresponding undo method to reverse its effects.
+     *
+     * @return false if the command could not be redone because the address book no longer matches the history,
+     *     in which case the history is discarded.
      */
-    public void redo() {
-        Command commandToRedo = commandHistory.get(currentCommandIndex + 1);
-        if (commandToRedo instanceof AddCommand) {
-            redoAdd((AddCommand) commandToRedo);
-        } else if (commandToRedo instanceof DeleteCommand) {
-            redoDelete((DeleteCommand) commandToRedo);
-        } else if (commandToRedo instanceof EditCommand) {
-            redoEdit((EditCommand) commandToRedo);
-        } else if (commandToRedo instanceof ClearCommand) {
-            redoClear((ClearCommand) commandToRedo);
+    public boolean redo() {
+        loadJournalledHistory();
+        ChangeRecord changeToRedo = commandHistory.get(currentCommandIndex + 1);
+        try {
+            redoChange(changeToRedo);
+        } catch (PersonNotFoundException | DuplicatePersonException e) {
+            discardHistory(changeToRedo);
+            return false;
         }
 
         currentCommandIndex++;
+        if (journal != null) {
+            journal.appendRedo();
+        }
+        return true;
+    }
+
+    private void undoChange(ChangeRecord change) {
+        switch (change.getKind()) {
+        case ADD:
+            undoAdd(change);
+            break;
+        case DELETE:
+            undoDelete(change);
+            break;
+        case EDIT:
+            undoEdit(change);
+            break;
+        case GROUP:
+            undoGroup(change);
+            break;
+        case TAGS:
+            changeTags(change.getTagsAdded(), change.getTagsRemoved());
+            break;
+        default:
+            undoClear(change);
+        }
+    }
+
+    private void redoChange(ChangeRecord change) {
+        switch (change.getKind()) {
+        case ADD:
+            redoAdd(change);
+            break;
+        case DELETE:
+            redoDelete(change);
+            break;
+        case EDIT:
+            redoEdit(change);
+            break;
+        case GROUP:
+            redoGroup(change);
+            break;
+        case TAGS:
+            changeTags(change.getTagsRemoved(), change.getTagsAdded());
+            break;
+        default:
+            redoClear(change);
+        }
     }
 
     /**
@@ -107,6 +301,7 @@ public class CommandList {
      * @return true if there is at least one command that can be undone, false otherwise.
      */
     public boolean canUndo() {
+        loadJournalledHistory();
         return currentCommandIndex >= 0;
     }
 
@@ -119,28 +314,116 @@ public class CommandList {
      * @return true if there is at least one command that can be redone, false otherwise.
      */
     public boolean canRedo() {
+        loadJournalledHistory();
         return commandHistory.size() > currentCommandIndex + 1;
     }
 
+    //=========== Journal ===================================================================================
+
+    /**
+     * Reads the history recorded in the linked journal by earlier sessions, if that has not been done yet.
+     */
+    private void loadJournalledHistory() {
+        if (!isJournalledHistoryPending) {
+            return;
+        }
+        isJournalledHistoryPending = false;
+
+        UndoJournal.History journalledHistory;
+        try {
+            journalledHistory = journal.readHistory();
+        } catch (DataLoadingException e) {
+            logger.warning("Undo journal could not be read, only this session's commands can be undone: " + e);
+            return;
+        }
+
+        // Until now, commands have only been added, never undone or redone, and each was also appended to the
+        // journal. So the journalled history ends with the commands already in memory, all of them applied.
+        List<ChangeRecord> journalledChanges = journalledHistory.getChanges();
+        if (commandHistory.isEmpty()) {
+            commandHistory.addAll(journalledChanges);
+            currentCommandIndex = journalledHistory.getAppliedCount() - 1;
+        } else {
+            int earlierCount = journalledChanges.size() - commandHistory.size();
+            if (earlierCount <= 0 || journalledHistory.getAppliedCount() != journalledChanges.size()) {
+                return;
+            }
+            commandHistory.addAll(0, journalledChanges.subList(0, earlierCount));
+            currentCommandIndex += earlierCount;
+        }
+
+        estimatedBytes = 0;
+        for (ChangeRecord change : commandHistory) {
+            estimatedBytes += estimateRetainedBytes(change);
+        }
+        evictOldestCommands();
+        logger.info("Restored " + commandHistory.size() + " command(s) from the undo journal");
+    }
+
+    /**
+     * Discards the whole history after {@code change} turned out not to match the address book,
+     * which happens if the journal missed changes that were saved to the address book.
+     */
+    private void discardHistory(ChangeRecord change) {
+        logger.warning("Undo history no longer matches the address book at " + change + "; discarding it");
+        commandHistory.clear();
+        currentCommandIndex = -1;
+        estimatedBytes = 0;
+        if (journal != null) {
+            journal.clear();
+        }
+    }
+
+    //=========== Size estimates ============================================================================
+
+    /**
+     * Returns a rough estimate of the number of bytes kept alive by {@code change} while it is in the history.
+     * The estimate errs on the high side: persons that are also still in the address book are counted too.
+     */
+    private static long estimateRetainedBytes(ChangeRecord change) {
+        long bytes = ESTIMATED_COMMAND_OVERHEAD_BYTES
+                + estimateRetainedBytes(change.getBefore()) + estimateRetainedBytes(change.getAfter());
+        if (change.getChanges() != null) {
+            for (ChangeRecord groupedChange : change.getChanges()) {
+                bytes += estimateRetainedBytes(groupedChange);
+            }
+        }
+        ReadOnlyAddressBook addressBookBeforeClear = change.getAddressBookBeforeClear();
+        // Counted by size alone so that recording a clear stays O(1)
+        if (addressBookBeforeClear != null) {
+            bytes += addressBookBeforeClear.getPersonList().size() * ESTIMATED_TYPICAL_PERSON_BYTES;
+        }
+        return bytes;
+    }
+
+    private static long estimateRetainedBytes(Person person) {
+        if (person == null) {
+            return 0;
+        }
+        long chars = person.getName().fullName.length() + person.getId().value.length();
+        // Phone numbers are packed into the person overhead, and tags are shared between persons
+        return ESTIMATED_PERSON_OVERHEAD_BYTES + 2 * chars;
+    }
+
     //=========== Undo and redo of add ======================================================================
 
     /**
      * Reverses the addition of a person to the address book.
      *
-     * @param command The {@code AddCommand} whose effect is to be undone.
+     * @param change The record of the addition to be undone.
      */
-    private void undoAdd(AddCommand command) {
-        Person personAdded = command.getPersonToAdd();
+    private void undoAdd(ChangeRecord change) {
+        Person personAdded = change.getAfter();
         model.deletePerson(personAdded);
     }
 
     /**
      * Re-executes the addition of a person to the address book.
      *
-     * @param command The {@code AddCommand} whose effect is to be redone.
+     * @param change The record of the addition to be redone.
      */
-    private void redoAdd(AddCommand command) {
-        Person personToAdd = command.getPersonToAdd();
+    private void redoAdd(ChangeRecord change) {
+        Person personToAdd = change.getAfter();
         model.addPerson(personToAdd);
     }
 
@@ -149,20 +432,20 @@ public class CommandList {
     /**
      * Reverses the deletion of a person from the address book.
      *
-     * @param command The {@code DeleteCommand} whose effect is to be undone.
+     * @param change The record of the deletion to be undone.
      */
-    private void undoDelete(DeleteCommand command) {
-        Person personDeleted = command.getPersonToDelete();
+    private void undoDelete(ChangeRecord change) {
+        Person personDeleted = change.getBefore();
         model.addPerson(personDeleted);
     }
 
     /**
      * Re-executes the deletion of a person from the address book.
      *
-     * @param command The {@code DeleteCommand} whose effect is to be redone.
+     * @param change The record of the deletion to be redone.
      */
-    private void redoDelete(DeleteCommand command) {
-        Person personToDelete = command.getPersonToDelete();
+    private void redoDelete(ChangeRecord change) {
+        Person personToDelete = change.getBefore();
         model.deletePerson(personToDelete);
     }
 
@@ -170,26 +453,26 @@ public class CommandList {
 
     /**
      * Reverses the edit of a person in the address book.
+     * The edited person is replaced in place, so the rest of the list and the current filter are left alone.
      *
-     * @param command The {@code EditCommand} whose effect is to be undone.
+     * @param change The record of the edit to be undone.
      */
-    private void undoEdit(EditCommand command) {
-        Person personToEdit = command.getPersonToEdit();
-        Person editedPerson = command.getEditedPerson();
-        model.deletePerson(editedPerson);
-        model.addPerson(personToEdit);
+    private void undoEdit(ChangeRecord change) {
+        Person personToEdit = change.getBefore();
+        Person editedPerson = change.getAfter();
+        model.setPerson(editedPerson, personToEdit);
     }
 
     /**
      * Re-executes the edit of a person in the address book.
+     * The original person is replaced in place, so the rest of the list and the current filter are left alone.
      *
-     * @param command The {@code EditCommand} whose effect is to be redone.
+     * @param change The record of the edit to be redone.
      */
-    private void redoEdit(EditCommand command) {
-        Person personToEdit = command.getPersonToEdit();
-        Person editedPerson = command.getEditedPerson();
-        model.deletePerson(personToEdit);
-        model.addPerson(editedPerson);
+    private void redoEdit(ChangeRecord change) {
+        Person personToEdit = change.getBefore();
+        Person editedPerson = change.getAfter();
+        model.setPerson(personToEdit, editedPerson);
     }
 
     //=========== Undo and redo of clear ====================================================================
@@ -199,10 +482,10 @@ public class CommandList {
      * This method restores the state of the address book to what it was before the clear operation
      * was executed.
      *
-     * @param command The {@code ClearCommand} whose clearing effect is to be undone.
+     * @param change The record of the clear to be undone.
      */
-    private void undoClear(ClearCommand command) {
-        ReadOnlyAddressBook addressBookToRestore = command.getAddressBookBeforeClear();
+    private void undoClear(ChangeRecord change) {
+        ReadOnlyAddressBook addressBookToRestore = change.getAddressBookBeforeClear();
         model.setAddressBook(addressBookToRestore);
     }
 
@@ -211,10 +494,115 @@ public class CommandList {
      * After an undo operation has restored the address book to its previous state, this method
      * allows for the redo of the clear operation, effectively emptying the address book once again.
      *
-     * @param command The {@code ClearCommand} that is to be redone, clearing the address book.
+     * @param change The record of the clear to be redone.
      */
-    private void redoClear(ClearCommand command) {
+    private void redoClear(ChangeRecord change) {
         model.setAddressBook(new AddressBook());
     }
 
+    //=========== Undo and redo of a change to the tag list =================================================
+
+    /**
+     * Removes {@code tagsToRemove} from the tag list and adds {@code tagsToAdd} to it, skipping tags that are
+     * already gone or already there. Tags added back go to the end of the tag list.
+     */
+    private void changeTags(List<Tag> tagsToRemove, List<Tag> tagsToAdd) {
+        for (Tag tag : tagsToRemove) {
+            if (model.hasTag(tag)) {
+                model.deleteTag(tag);
+            }
+        }
+        for (Tag tag : tagsToAdd) {
+            if (!model.hasTag(tag)) {
+                model.addTag(tag);
+            }
+        }
+    }
+
+    //=========== Undo and redo of a group ==================================================================
+
+    /**
+     * Reverses the changes in a group, last change first, as one transaction on the model.
+     * If any of them cannot be undone, the changes already undone are rolled back.
+     *
+     * @param change The record of the group to be undone.
+     */
+    private void undoGroup(ChangeRecord change) {
+        List<ChangeRecord> changes = change.getChanges();
+        if (replaceEditedPersons(changes, true)) {
+            return;
+        }
+        model.beginTransaction();
+        try {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                undoChange(changes.get(i));
+            }
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        model.commitTransaction();
+    }
+
+    /**
+     * Re-executes the changes in a group, in order, as one transaction on the model.
+     * If any of them cannot be redone, the changes already redone are rolled back.
+     *
+     * @param change The record of the group to be redone.
+     */
+    private void redoGroup(ChangeRecord change) {
+        if (replaceEditedPersons(change.getChanges(), false)) {
+            return;
+        }
+        model.beginTransaction();
+        try {
+            for (ChangeRecord groupedChange : change.getChanges()) {
+                redoChange(groupedChange);
+            }
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        model.commitTransaction();
+    }
+
+    /**
+     * Undoes or redoes a group made only of edits of different persons, such as a rename of a tag, by replacing
+     * all of the persons at once. Changes to the tag list in the group are undone or redone after the persons.
+     * Returns false, having changed nothing, if the group is not such a group, in which case its changes must be
+     * undone or redone one by one.
+     *
+     * @param changes The changes in the group.
+     * @param isUndo Whether the persons are put back as they were before the edits, rather than after.
+     */
+    private boolean replaceEditedPersons(List<ChangeRecord> changes, boolean isUndo) {
+        List<Person> targets = new ArrayList<>(changes.size());
+        List<Person> replacements = new ArrayList<>(changes.size());
+        List<ChangeRecord> tagListChanges = new ArrayList<>();
+        Set<Id> editedIds = new HashSet<>();
+        for (ChangeRecord groupedChange : changes) {
+            if (groupedChange.getKind() == ChangeRecord.Kind.TAGS) {
+                tagListChanges.add(groupedChange);
+                continue;
+            }
+            if (groupedChange.getKind() != ChangeRecord.Kind.EDIT
+                    || !editedIds.add(groupedChange.getBefore().getId())
+                    || !groupedChange.getBefore().isSamePerson(groupedChange.getAfter())) {
+                return false;
+            }
+            targets.add(isUndo ? groupedChange.getAfter() : groupedChange.getBefore());
+            replacements.add(isUndo ? groupedChange.getBefore() : groupedChange.getAfter());
+        }
+        model.setPersons(targets, replacements);
+        if (isUndo) {
+            for (int i = tagListChanges.size() - 1; i >= 0; i--) {
+                changeTags(tagListChanges.get(i).getTagsAdded(), tagListChanges.get(i).getTagsRemoved());
+            }
+        } else {
+            for (ChangeRecord tagListChange : tagListChanges) {
+                changeTags(tagListChange.getTagsRemoved(), tagListChange.getTagsAdded());
+            }
+        }
+        return true;
+    }
 }
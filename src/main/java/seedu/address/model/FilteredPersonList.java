@@ -0,0 +1,219 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.Person;
+
+/**
+ * An unmodifiable view of the persons in a source list that pass a filter, kept up to date with the source.
+ *
+ * Unlike {@code FilteredList}, which tests and indexes every person in the source, this list passes the source
+ * straight through while {@link Model#PREDICATE_SHOW_ALL_PERSONS} is the filter, so the usual unfiltered list
+ * costs nothing to count or to keep up to date, however many persons it holds. Otherwise it keeps the positions
+ * of the matching persons in the source, and updates them only where the source changed.
+ */
+class FilteredPersonList extends ObservableListBase<Person> {
+
+    private final ObservableList<Person> source;
+    private Predicate<? super Person> predicate;
+    /** The positions in the source of the persons that pass the filter, in order, or null if all of them do. */
+    private int[] matches;
+    private int matchCount;
+
+    /**
+     * Constructs a view of the persons in {@code source} that pass {@code predicate}.
+     */
+    FilteredPersonList(ObservableList<Person> source, Predicate<? super Person> predicate) {
+        requireNonNull(source);
+        requireNonNull(predicate);
+        this.source = source;
+        this.predicate = predicate;
+        filter();
+        source.addListener(this::onSourceChanged);
+    }
+
+    /**
+     * Filters the source by {@code predicate} instead, showing the result as a single change.
+     */
+    public void setPredicate(Predicate<? super Person> predicate) {
+        requireNonNull(predicate);
+        // The source does not change while the change is handled, so the old matches can stand in for the
+        // removed persons without copying them
+        List<Person> removed = matches == null ? source : new MatchedPersons(source, matches, matchCount);
+        this.predicate = predicate;
+        filter();
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        if (matches == null) {
+            return source.get(index);
+        }
+        if (index < 0 || index >= matchCount) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + matchCount);
+        }
+        return source.get(matches[index]);
+    }
+
+    @Override
+    public int size() {
+        return matches == null ? source.size() : matchCount;
+    }
+
+    /**
+     * Finds the persons in the source that pass the filter, in a single pass over the source.
+     */
+    private void filter() {
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            matches = null;
+            matchCount = 0;
+            return;
+        }
+        matches = new int[source.size()];
+        matchCount = 0;
+        int sourceIndex = 0;
+        for (Person person : source) {
+            if (predicate.test(person)) {
+                matches[matchCount++] = sourceIndex;
+            }
+            sourceIndex++;
+        }
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends Person> change) {
+        beginChange();
+        while (change.next()) {
+            // Each part of a change is relative to the source as the parts before it left it
+            if (change.wasRemoved()) {
+                onRemoved(change.getFrom(), change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                onAdded(change.getFrom(), change.getTo());
+            }
+        }
+        endChange();
+    }
+
+    private void onRemoved(int from, List<? extends Person> removed) {
+        if (matches == null) {
+            nextRemove(from, removed);
+            return;
+        }
+        int first = firstMatchAtOrAfter(from);
+        int last = firstMatchAtOrAfter(from + removed.size());
+        if (first < last) {
+            Person[] removedMatches = new Person[last - first];
+            for (int i = first; i < last; i++) {
+                removedMatches[i - first] = removed.get(matches[i] - from);
+            }
+            nextRemove(first, Arrays.asList(removedMatches));
+        }
+        System.arraycopy(matches, last, matches, first, matchCount - last);
+        matchCount -= last - first;
+        shiftMatches(first, -removed.size());
+    }
+
+    private void onAdded(int from, int to) {
+        if (matches == null) {
+            nextAdd(from, to);
+            return;
+        }
+        int first = firstMatchAtOrAfter(from);
+        shiftMatches(first, to - from);
+        int[] added = new int[to - from];
+        int addedCount = 0;
+        for (int i = from; i < to; i++) {
+            if (predicate.test(source.get(i))) {
+                added[addedCount++] = i;
+            }
+        }
+        if (addedCount > 0) {
+            insertMatches(first, added, addedCount);
+            nextAdd(first, first + addedCount);
+        }
+    }
+
+    /**
+     * Returns the position in this list of the first match at or after {@code sourceIndex} in the source.
+     */
+    private int firstMatchAtOrAfter(int sourceIndex) {
+        int low = 0;
+        int high = matchCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (matches[mid] < sourceIndex) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Moves the matches from {@code first} onwards by {@code offset} positions in the source.
+     */
+    private void shiftMatches(int first, int offset) {
+        for (int i = first; i < matchCount; i++) {
+            matches[i] += offset;
+        }
+    }
+
+    /**
+     * Inserts the first {@code count} of {@code toInsert} into the matches at {@code index}.
+     */
+    private void insertMatches(int index, int[] toInsert, int count) {
+        if (matchCount + count > matches.length) {
+            matches = Arrays.copyOf(matches, Math.max(matches.length * 2, matchCount + count));
+        }
+        System.arraycopy(matches, index, matches, index + count, matchCount - index);
+        System.arraycopy(toInsert, 0, matches, index, count);
+        matchCount += count;
+    }
+
+    /**
+     * An unmodifiable view of the persons at the given positions in a source list.
+     */
+    private static class MatchedPersons extends AbstractList<Person> {
+        private final List<Person> source;
+        private final int[] matches;
+        private final int size;
+
+        MatchedPersons(List<Person> source, int[] matches, int size) {
+            this.source = source;
+            this.matches = matches;
+            this.size = size;
+        }
+
+        @Override
+        public Person get(int index) {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+            return source.get(matches[index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.Command;
+import seedu.address.model.person.Id;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagList;
@@ -64,7 +67,13 @@ public interface Model {
     void deleteTag(Tag tag);
 
     /**
-     * List the tags in the tag list.
+     * Returns the persons in the address book with {@code tag}, whether or not they pass the current filter,
+     * in the order they are listed in.
+     */
+    List<Person> getPersonsWithTag(Tag tag);
+
+    /**
+     * List the tags in the tag list, with the number of persons that have each of them.
      */
     String listTags();
 
@@ -112,15 +121,62 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}.
+     * Each target must exist in the address book.
+     * The person identity of each edited person must not be the same as another edited person, or another existing
+     * person in the address book.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the person with the given {@code id} if that person is in the filtered person list.
+     * @throws NullPointerException if {@code id} is null.
+     */
+    Optional<Person> getFilteredPersonById(Id id);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    //=========== Transactions ===============================================================================
+
+    /**
+     * Starts a transaction. Until it is committed, changes to the address book are not shown in the filtered
+     * person list, although the model's other methods see them, and executed commands are not added to the
+     * undo history. Nothing can be undone or redone during a transaction.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the current transaction. Its changes are shown in the filtered person list as a single change,
+     * and the commands executed in it are added to the undo history as one command.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the current transaction, undoing its changes to the address book and the tag list.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Returns true if a transaction is in progress.
+     */
+    boolean isInTransaction();
+
+    //=========== Undo and redo ==============================================================================
+
     /**
      * Returns true if the model has previous address book states to restore.
      */
@@ -133,13 +189,15 @@ public interface Model {
 
     /**
      * Restores the model's address book to its previous state.
+     * Returns false if the address book no longer matches the recorded history, which is then discarded.
      */
-    void undoCommand();
+    boolean undoCommand();
 
     /**
      * Restores the model's address book to its previously undone state.
+     * Returns false if the address book no longer matches the recorded history, which is then discarded.
      */
-    void redoCommand();
+    boolean redoCommand();
 
     /**
      * Adds the specified command to the command history list.
@@ -4,20 +4,32 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FxUtil;
 import seedu.address.logic.commands.Command;
+import seedu.address.model.person.Id;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagList;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * The model may be read from any thread, but changed from only one thread at a time. The persons are kept in
+ * immutable snapshots, so readers never wait for a change in progress and never see half of one. The filtered
+ * person list shown to the UI is only updated on the UI thread, so callers on other threads get a view of a
+ * snapshot of the current data instead, built when it is asked for, and likewise for the address book.
+ *
+ * During a transaction, the filtered person list shown to the UI is left as it was when the transaction began,
+ * and callers get a view of the current data in the same way.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -25,10 +37,18 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final TagList tagList;
-    private final FilteredList<Person> filteredPersons;
+    private final FilteredPersonList filteredPersons;
 
     private final CommandList commandList;
 
+    /** The changes made by the commands executed in the current transaction, or null outside a transaction. */
+    private List<ChangeRecord> transactionChanges;
+    private List<Tag> tagsBeforeTransaction;
+    /** The filter to apply once the current transaction is committed, or null if it was not changed. */
+    private Predicate<Person> pendingPredicate;
+    /** The filter of {@code filteredPersons}, which is only read on the UI thread. */
+    private volatile Predicate<? super Person> currentPredicate = PREDICATE_SHOW_ALL_PERSONS;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -44,7 +64,7 @@ public class ModelManager implements Model {
         this.commandList.linkToModel(this);
         this.userPrefs = userPrefs;
         this.tagList = tagList;
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList(), currentPredicate);
     }
 
     public ModelManager() {
@@ -112,9 +132,15 @@ public class ModelManager implements Model {
         tagList.deleteTag(tag);
     }
 
+    @Override
+    public List<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return addressBook.getPersonsWithTag(tag);
+    }
+
     @Override
     public String listTags() {
-        return tagList.listTags();
+        return tagList.listTags(addressBook.getTagUsageCounts());
     }
 
     //=========== AddressBook ================================================================================
@@ -126,7 +152,7 @@ public class ModelManager implements Model {
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
+        return isInTransaction() || !FxUtil.isUiThread() ? addressBook.snapshot() : addressBook;
     }
 
     @Override
@@ -153,6 +179,13 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+
+        addressBook.setPersons(targets, editedPersons);
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -161,13 +194,39 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
+        if (isInTransaction() || !FxUtil.isUiThread()) {
+            return new FilteredPersonList(addressBook.snapshot().getPersonList(), this::isShown);
+        }
         return filteredPersons;
     }
 
+    @Override
+    public Optional<Person> getFilteredPersonById(Id id) {
+        requireNonNull(id);
+        return addressBook.getPersonById(id).filter(this::isShown);
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (isInTransaction()) {
+            pendingPredicate = predicate;
+            return;
+        }
+        setPredicate(predicate);
+    }
+
+    private void setPredicate(Predicate<Person> predicate) {
+        currentPredicate = predicate;
+        FxUtil.runOnUiThread(() -> filteredPersons.setPredicate(predicate));
+    }
+
+    /**
+     * Returns true if {@code person} passes the current filter, including one set earlier in the transaction.
+     */
+    private boolean isShown(Person person) {
+        Predicate<? super Person> predicate = pendingPredicate != null ? pendingPredicate : currentPredicate;
+        return predicate.test(person);
     }
 
     @Override
@@ -187,31 +246,86 @@ public class ModelManager implements Model {
                 && filteredPersons.equals(otherModelManager.filteredPersons);
     }
 
+    //=========== Transactions ===============================================================================
+
+    @Override
+    public void beginTransaction() {
+        addressBook.beginTransaction();
+        transactionChanges = new ArrayList<>();
+        tagsBeforeTransaction = new ArrayList<>(tagList.getTagList());
+    }
+
+    @Override
+    public void commitTransaction() {
+        addressBook.commitTransaction();
+        // Only a filter that actually changed costs the UI a second update
+        if (pendingPredicate != null && pendingPredicate != currentPredicate) {
+            setPredicate(pendingPredicate);
+        }
+        if (transactionChanges.size() == 1) {
+            commandList.addChange(transactionChanges.get(0));
+        } else if (!transactionChanges.isEmpty()) {
+            commandList.addChange(ChangeRecord.ofGroup(transactionChanges));
+        }
+        endTransaction();
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        addressBook.rollbackTransaction();
+        tagList.setTags(tagsBeforeTransaction);
+        endTransaction();
+    }
+
+    @Override
+    public boolean isInTransaction() {
+        return addressBook.isInTransaction();
+    }
+
+    private void endTransaction() {
+        transactionChanges = null;
+        tagsBeforeTransaction = null;
+        pendingPredicate = null;
+    }
+
     //=========== Undo and redo feature ======================================================================
 
+    /**
+     * Links the undo history to {@code journal}, so that it is saved as commands are executed and can be
+     * restored in a later session.
+     */
+    public void linkToUndoJournal(UndoJournal journal) {
+        requireNonNull(journal);
+        commandList.linkToJournal(journal);
+    }
+
     @Override
     public void addExecutedCommand(Command command) {
+        if (isInTransaction()) {
+            transactionChanges.add(CommandList.toChangeRecord(command));
+            return;
+        }
         commandList.addCommand(command);
     }
 
     @Override
     public boolean canUndoCommand() {
-        return commandList.canUndo();
+        return !isInTransaction() && commandList.canUndo();
     }
 
     @Override
     public boolean canRedoCommand() {
-        return commandList.canRedo();
+        return !isInTransaction() && commandList.canRedo();
     }
 
     @Override
-    public void undoCommand() {
-        commandList.undo();
+    public boolean undoCommand() {
+        return commandList.undo();
     }
 
     @Override
-    public void redoCommand() {
-        commandList.redo();
+    public boolean redoCommand() {
+        return commandList.redo();
     }
 
 }
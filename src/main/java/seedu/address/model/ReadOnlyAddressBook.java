@@ -14,4 +14,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an immutable copy of this address book that later changes to it do not affect.
+     */
+    default ReadOnlyAddressBook snapshot() {
+        return new AddressBook(this);
+    }
+
 }
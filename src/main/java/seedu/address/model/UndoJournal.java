@@ -0,0 +1,74 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * A durable log of the undo history, from which the history can be restored in a later session.
+ * Appends may complete after the method returns, but are recorded in the order they were made.
+ */
+public interface UndoJournal {
+
+    /**
+     * Records that {@code change} was made. Any changes that could have been redone are discarded.
+     */
+    void appendChange(ChangeRecord change);
+
+    /**
+     * Records that the most recent change was undone.
+     */
+    void appendUndo();
+
+    /**
+     * Records that the most recently undone change was redone.
+     */
+    void appendRedo();
+
+    /**
+     * Reads back the undo history recorded so far, including anything appended in this session.
+     *
+     * @throws DataLoadingException if the journal could not be read.
+     */
+    History readHistory() throws DataLoadingException;
+
+    /**
+     * Discards everything recorded in the journal.
+     */
+    void clear();
+
+    /**
+     * Finishes any pending appends and releases the journal.
+     */
+    void close();
+
+    /**
+     * The undo history recorded in a journal: a list of changes, of which the first {@code appliedCount}
+     * are currently applied and can be undone, and the rest have been undone and can be redone.
+     */
+    final class History {
+        private final List<ChangeRecord> changes;
+        private final int appliedCount;
+
+        /**
+         * Constructs a {@code History} of {@code changes}, of which the first {@code appliedCount} are applied.
+         */
+        public History(List<ChangeRecord> changes, int appliedCount) {
+            requireNonNull(changes);
+            assert appliedCount >= 0 && appliedCount <= changes.size();
+            this.changes = Collections.unmodifiableList(changes);
+            this.appliedCount = appliedCount;
+        }
+
+        public List<ChangeRecord> getChanges() {
+            return changes;
+        }
+
+        public int getAppliedCount() {
+            return appliedCount;
+        }
+    }
+}
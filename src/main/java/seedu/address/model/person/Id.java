@@ -3,11 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's id in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidId(String)}
  */
-public class Id {
+public class Id implements Comparable<Id> {
 
     public static final String MESSAGE_CONSTRAINTS = "Id is invalid. An id can include alphabets, numbers,"
             + " and certain special characters, but cannot be blank and should not contain whitespaces.";
@@ -18,8 +20,17 @@ public class Id {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
+    /**
+     * The trimmed, case-folded form of {@code value} that equality and hashing are based on.
+     * {@code String} caches its own hash, so {@link #hashCode()} is only computed once per id.
+     * It is {@code value} itself when the id is already in that form, as most ids are, so it takes no more memory.
+     */
+    private final String canonicalValue;
+
     /**
      * Constructs an {@code Id}.
      *
@@ -29,18 +40,34 @@ public class Id {
         requireNonNull(id);
         checkArgument(isValidId(id), MESSAGE_CONSTRAINTS);
         value = id;
+        String canonicalForm = toCanonicalForm(id);
+        canonicalValue = canonicalForm.equals(id) ? id : canonicalForm;
     }
 
     /**
      * Returns true if a given string is a valid id.
      */
     public static boolean isValidId(String test) {
-        if (test.trim().contains(" ") || !test.matches(VALIDATION_REGEX)) {
+        if (test.trim().contains(" ") || !VALIDATION_PATTERN.matcher(test).matches()) {
             return false;
         }
         return true;
     }
 
+    /**
+     * Returns the trimmed {@code id} with every character folded the same way as
+     * {@link String#equalsIgnoreCase(String)}, so that two ids are equal ignoring case
+     * exactly when their canonical forms are equal.
+     */
+    private static String toCanonicalForm(String id) {
+        String trimmed = id.trim();
+        char[] folded = new char[trimmed.length()];
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = Character.toLowerCase(Character.toUpperCase(trimmed.charAt(i)));
+        }
+        return new String(folded);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -58,12 +85,17 @@ public class Id {
         }
 
         Id otherId = (Id) other;
-        return value.trim().equalsIgnoreCase(otherId.value.trim());
+        return canonicalValue.equals(otherId.canonicalValue);
+    }
+
+    @Override
+    public int compareTo(Id otherId) {
+        return canonicalValue.compareTo(otherId.canonicalValue);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return canonicalValue.hashCode();
     }
 
 }
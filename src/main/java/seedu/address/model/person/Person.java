@@ -2,13 +2,12 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -23,7 +22,7 @@ public class Person {
 
     // Data fields
     //private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     private final Id id;
 
@@ -48,7 +47,7 @@ public class Person {
         this.name = name;
         this.phone = phone;
         this.id = id;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
         //    this.email = new Email("test@gmail.com");
         //    this.address = new Address("test");
     }
@@ -78,7 +77,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -0,0 +1,326 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ToIntFunction;
+
+/**
+ * An immutable, sorted set of persons backed by a persistent AVL tree.
+ * Adding or removing a person returns a new tree in O(log N) and leaves this tree untouched. The new tree
+ * shares every node off the changed path with this one, so holding on to older versions costs no copying.
+ *
+ * Persons are ordered, and considered the same, according to the {@code Comparator} the tree is created with.
+ */
+final class PersonTree implements Iterable<Person> {
+
+    private final Comparator<Person> comparator;
+    private final Node root;
+
+    private PersonTree(Comparator<Person> comparator, Node root) {
+        this.comparator = comparator;
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty tree ordered by {@code comparator}.
+     */
+    static PersonTree empty(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        return new PersonTree(comparator, null);
+    }
+
+    /**
+     * Returns a balanced tree containing {@code sortedPersons}, built in O(N).
+     * {@code sortedPersons} must be sorted by {@code comparator} and must not contain two persons that it
+     * considers the same.
+     */
+    static PersonTree fromSorted(List<Person> sortedPersons, Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        return new PersonTree(comparator, build(sortedPersons, 0, sortedPersons.size()));
+    }
+
+    int size() {
+        return size(root);
+    }
+
+    /**
+     * Returns the person at {@code index} in sorted order.
+     */
+    Person get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Node node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.person;
+            }
+        }
+    }
+
+    /**
+     * Returns the person that {@code probe} matches, or null if there is none.
+     * {@code probe} must return a negative number, zero or a positive number depending on whether the person
+     * searched for sorts before, is the same as, or sorts after the person it is given.
+     */
+    Person find(ToIntFunction<Person> probe) {
+        Node node = root;
+        while (node != null) {
+            int cmp = probe.applyAsInt(node.person);
+            if (cmp == 0) {
+                return node.person;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the person in this tree that is the same as {@code person}, or null if there is none.
+     */
+    Person find(Person person) {
+        return find(other -> comparator.compare(person, other));
+    }
+
+    /**
+     * Returns the number of persons in this tree that sort before {@code person}.
+     * This is the position of {@code person} if it is in the tree, or the position it would be inserted at if not.
+     */
+    int rankOf(Person person) {
+        int rank = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = comparator.compare(person, node.person);
+            if (cmp <= 0) {
+                if (cmp == 0) {
+                    return rank + size(node.left);
+                }
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return rank;
+    }
+
+    /**
+     * Returns a tree that also contains {@code person}, replacing any person that is the same as it.
+     */
+    PersonTree with(Person person) {
+        requireNonNull(person);
+        return new PersonTree(comparator, insert(root, person));
+    }
+
+    /**
+     * Returns a tree without the person that is the same as {@code person}.
+     * Returns this tree if there is no such person.
+     */
+    PersonTree without(Person person) {
+        requireNonNull(person);
+        Node newRoot = delete(root, person);
+        return newRoot == root ? this : new PersonTree(comparator, newRoot);
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this tree in sorted order.
+     * Random access takes O(log N); iteration takes O(1) per person.
+     */
+    List<Person> asList() {
+        return new AbstractList<>() {
+            @Override
+            public Person get(int index) {
+                return PersonTree.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return PersonTree.this.size();
+            }
+
+            @Override
+            public Iterator<Person> iterator() {
+                return PersonTree.this.iterator();
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return iterator(0);
+    }
+
+    /**
+     * Returns an iterator over the persons in sorted order, starting from the one at {@code fromIndex}.
+     * Finding the starting person takes O(log N); each step after that takes O(1) on average.
+     */
+    Iterator<Person> iterator(int fromIndex) {
+        if (fromIndex < 0 || fromIndex > size()) {
+            throw new IndexOutOfBoundsException("Index: " + fromIndex + ", Size: " + size());
+        }
+        return new Iterator<>() {
+            // The persons still to be visited whose right subtrees have not been visited yet, next one on top
+            private final Deque<Node> path = new ArrayDeque<>();
+
+            {
+                int index = fromIndex;
+                Node node = root;
+                while (node != null) {
+                    int leftSize = size(node.left);
+                    if (index < leftSize) {
+                        path.push(node);
+                        node = node.left;
+                    } else if (index > leftSize) {
+                        index -= leftSize + 1;
+                        node = node.right;
+                    } else {
+                        path.push(node);
+                        break;
+                    }
+                }
+            }
+
+            private void pushLeftSpine(Node node) {
+                for (Node current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public Person next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node node = path.pop();
+                pushLeftSpine(node.right);
+                return node.person;
+            }
+        };
+    }
+
+    //// tree operations
+
+    private Node insert(Node node, Person person) {
+        if (node == null) {
+            return new Node(person, null, null);
+        }
+        int cmp = comparator.compare(person, node.person);
+        if (cmp < 0) {
+            return balance(node.person, insert(node.left, person), node.right);
+        } else if (cmp > 0) {
+            return balance(node.person, node.left, insert(node.right, person));
+        } else {
+            return new Node(person, node.left, node.right);
+        }
+    }
+
+    private Node delete(Node node, Person person) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(person, node.person);
+        if (cmp < 0) {
+            Node newLeft = delete(node.left, person);
+            return newLeft == node.left ? node : balance(node.person, newLeft, node.right);
+        } else if (cmp > 0) {
+            Node newRight = delete(node.right, person);
+            return newRight == node.right ? node : balance(node.person, node.left, newRight);
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.person, node.left, deleteMin(node.right));
+    }
+
+    private static Node deleteMin(Node node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        return balance(node.person, deleteMin(node.left), node.right);
+    }
+
+    /**
+     * Returns a node holding {@code person} over {@code left} and {@code right}, rotating if the heights of
+     * the two subtrees differ by more than one.
+     */
+    private static Node balance(Person person, Node left, Node right) {
+        int leftHeight = height(left);
+        int rightHeight = height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node(left.person, left.left, new Node(person, left.right, right));
+            }
+            Node pivot = left.right;
+            return new Node(pivot.person, new Node(left.person, left.left, pivot.left),
+                    new Node(person, pivot.right, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node(right.person, new Node(person, left, right.left), right.right);
+            }
+            Node pivot = right.left;
+            return new Node(pivot.person, new Node(person, left, pivot.left),
+                    new Node(right.person, pivot.right, right.right));
+        }
+        return new Node(person, left, right);
+    }
+
+    private static Node build(List<Person> sortedPersons, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node(sortedPersons.get(mid), build(sortedPersons, from, mid), build(sortedPersons, mid + 1, to));
+    }
+
+    private static int height(Node node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * An immutable tree node, which also records the height and size of the subtree rooted at it.
+     */
+    private static final class Node {
+        private final Person person;
+        private final Node left;
+        private final Node right;
+        private final int height;
+        private final int size;
+
+        Node(Person person, Node left, Node right) {
+            this.person = person;
+            this.left = left;
+            this.right = right;
+            this.height = Math.max(height(left), height(right)) + 1;
+            this.size = size(left) + size(right) + 1;
+        }
+    }
+}
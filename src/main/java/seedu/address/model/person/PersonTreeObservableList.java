@@ -0,0 +1,145 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable {@code ObservableList} view of a {@code PersonTree}, which is replaced as the tree changes.
+ * Nothing is copied out of the tree up front: persons are only read as they are asked for, a window at a time,
+ * so showing a list of any size costs only as much as the part of it that is on screen.
+ *
+ * Each change is reported as precisely as it was made, so that views of the list, and the positions they are
+ * scrolled to, are only disturbed where the list actually changed.
+ */
+final class PersonTreeObservableList extends ObservableListBase<Person> {
+
+    /** The number of persons read into the window at once, enough for a screenful of persons and then some. */
+    static final int WINDOW_SIZE = 128;
+    /** The number of persons read into the window ahead of the one asked for, for scrolling back up. */
+    static final int PREFETCH_MARGIN = 32;
+
+    private PersonTree tree;
+    private Person[] window = new Person[0];
+    private int windowStart;
+
+    PersonTreeObservableList(PersonTree tree) {
+        this.tree = tree;
+    }
+
+    @Override
+    public Person get(int index) {
+        if (index < windowStart || index >= windowStart + window.length) {
+            fillWindow(index);
+        }
+        return window[index - windowStart];
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return tree.iterator();
+    }
+
+    //// changes
+
+    /**
+     * Shows {@code newTree}, which differs from the current tree by having one more person, at {@code index}.
+     */
+    void showAdded(PersonTree newTree, int index) {
+        setTree(newTree);
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+    }
+
+    /**
+     * Shows {@code newTree}, which differs from the current tree by not having {@code removed} at {@code index}.
+     */
+    void showRemoved(PersonTree newTree, int index, Person removed) {
+        setTree(newTree);
+        beginChange();
+        nextRemove(index, removed);
+        endChange();
+    }
+
+    /**
+     * Shows {@code newTree}, in which the person {@code replaced} at {@code oldIndex} was replaced by another
+     * person at {@code newIndex}.
+     */
+    void showReplaced(PersonTree newTree, int oldIndex, Person replaced, int newIndex) {
+        setTree(newTree);
+        beginChange();
+        if (oldIndex == newIndex) {
+            nextSet(newIndex, replaced);
+        } else {
+            nextRemove(oldIndex, replaced);
+            nextAdd(newIndex, newIndex + 1);
+        }
+        endChange();
+    }
+
+    /**
+     * Makes the changes shown by {@code changes} as parts of a single change.
+     */
+    void showTogether(Runnable changes) {
+        beginChange();
+        changes.run();
+        endChange();
+    }
+
+    /**
+     * Shows {@code newTree} in place of the current tree, as a single change.
+     */
+    void showAll(PersonTree newTree) {
+        PersonTree oldTree = tree;
+        if (newTree == oldTree) {
+            return;
+        }
+        setTree(newTree);
+        beginChange();
+        if (oldTree.size() > 0) {
+            // The old tree never changes, so it stands in for the removed persons without copying them
+            nextRemove(0, oldTree.asList());
+        }
+        if (newTree.size() > 0) {
+            nextAdd(0, newTree.size());
+        }
+        endChange();
+    }
+
+    private void setTree(PersonTree newTree) {
+        tree = newTree;
+        window = new Person[0];
+    }
+
+    /**
+     * Reads the persons around {@code index} into the window, with {@code index} near its start.
+     */
+    private void fillWindow(int index) {
+        if (index < 0 || index >= tree.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + tree.size());
+        }
+        windowStart = Math.max(index - PREFETCH_MARGIN, 0);
+        int windowEnd = Math.min(windowStart + WINDOW_SIZE, tree.size());
+        window = new Person[windowEnd - windowStart];
+        Iterator<Person> persons = tree.iterator(windowStart);
+        for (int i = 0; i < window.length; i++) {
+            window[i] = persons.next();
+        }
+    }
+
+    /**
+     * Returns the persons currently in the window, for tests.
+     */
+    List<Person> getWindow() {
+        return Collections.unmodifiableList(Arrays.asList(window));
+    }
+}
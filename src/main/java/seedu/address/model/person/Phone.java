@@ -3,9 +3,15 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Objects;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
+ *
+ * A number of up to {@link #MAX_PACKED_DIGITS} digits, which is nearly every phone number, is held packed into a
+ * single {@code long} rather than as a string, and only turned back into a string when asked for.
  */
 public class Phone {
 
@@ -13,7 +19,18 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
-    public final String value;
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    /** The most digits that fit in {@link #packedValue} after its leading 1. */
+    private static final int MAX_PACKED_DIGITS = 18;
+
+    /**
+     * The digits of the number after a leading 1, which keeps any leading zeros, or 0 if the number is too long.
+     */
+    private final long packedValue;
+    /** The number, only if it is too long to be packed. */
+    private final String unpackedValue;
 
     /**
      * Constructs a {@code Phone}.
@@ -23,19 +40,29 @@ public class Phone {
     public Phone(String phone) {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
-        value = phone;
+        if (phone.length() <= MAX_PACKED_DIGITS) {
+            long packed = 1;
+            for (int i = 0; i < phone.length(); i++) {
+                packed = packed * 10 + (phone.charAt(i) - '0');
+            }
+            packedValue = packed;
+            unpackedValue = null;
+        } else {
+            packedValue = 0;
+            unpackedValue = phone;
+        }
     }
 
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public String toString() {
-        return value;
+        return unpackedValue != null ? unpackedValue : Long.toString(packedValue).substring(1);
     }
 
     @Override
@@ -50,12 +77,12 @@ public class Phone {
         }
 
         Phone otherPhone = (Phone) other;
-        return value.equals(otherPhone.value);
+        return packedValue == otherPhone.packedValue && Objects.equals(unpackedValue, otherPhone.unpackedValue);
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return unpackedValue != null ? unpackedValue.hashCode() : Long.hashCode(packedValue);
     }
 
 }
@@ -0,0 +1,125 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable record of which persons have each tag.
+ * The persons with a tag are kept in a persistent tree, in the order they are listed in, so how many persons have a
+ * tag is known in O(1) and who they are without going through every person.
+ *
+ * Adding, removing or replacing a person returns a new record in O(T + t log N), where T is the number of tags in
+ * use and t the number of tags of the person, and leaves this record untouched, so it can be kept in a snapshot.
+ * A change that touches no tags returns this same record.
+ */
+final class TagUsage implements ToIntFunction<Tag> {
+
+    private final Comparator<Person> comparator;
+    /** The persons with each tag in use. Tags no person has are left out. */
+    private final Map<Tag, PersonTree> personsByTag;
+
+    private TagUsage(Comparator<Person> comparator, Map<Tag, PersonTree> personsByTag) {
+        this.comparator = comparator;
+        this.personsByTag = personsByTag;
+    }
+
+    /**
+     * Returns a record in which no person has any tag, whose persons are ordered by {@code comparator}.
+     */
+    static TagUsage empty(Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        return new TagUsage(comparator, Collections.emptyMap());
+    }
+
+    /**
+     * Returns a record of the tags of {@code sortedPersons}, built in O(N t).
+     * {@code sortedPersons} must be sorted by {@code comparator}.
+     */
+    static TagUsage fromSorted(List<Person> sortedPersons, Comparator<Person> comparator) {
+        requireNonNull(comparator);
+        Map<Tag, List<Person>> sortedPersonsByTag = new HashMap<>();
+        for (Person person : sortedPersons) {
+            for (Tag tag : person.getTags()) {
+                sortedPersonsByTag.computeIfAbsent(tag, unused -> new ArrayList<>()).add(person);
+            }
+        }
+        Map<Tag, PersonTree> personsByTag = new HashMap<>();
+        sortedPersonsByTag.forEach((tag, persons) -> personsByTag.put(tag, PersonTree.fromSorted(persons, comparator)));
+        return new TagUsage(comparator, personsByTag);
+    }
+
+    /**
+     * Returns the number of persons with {@code tag}.
+     */
+    int countPersonsWith(Tag tag) {
+        PersonTree persons = personsByTag.get(tag);
+        return persons == null ? 0 : persons.size();
+    }
+
+    @Override
+    public int applyAsInt(Tag tag) {
+        return countPersonsWith(tag);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons with {@code tag}, in the order they are listed in.
+     */
+    List<Person> getPersonsWith(Tag tag) {
+        PersonTree persons = personsByTag.get(tag);
+        return persons == null ? Collections.emptyList() : persons.asList();
+    }
+
+    /**
+     * Returns a record in which {@code person} also has its tags.
+     */
+    TagUsage with(Person person) {
+        return replace(null, person);
+    }
+
+    /**
+     * Returns a record in which {@code person} no longer has its tags.
+     */
+    TagUsage without(Person person) {
+        return replace(person, null);
+    }
+
+    /**
+     * Returns a record in which {@code editedPerson} has its tags instead of {@code target} having its own.
+     * Either person may be null, to only remove or add the tags of the other.
+     */
+    TagUsage replace(Person target, Person editedPerson) {
+        boolean hasTargetTags = target != null && !target.getTags().isEmpty();
+        boolean hasEditedPersonTags = editedPerson != null && !editedPerson.getTags().isEmpty();
+        if (!hasTargetTags && !hasEditedPersonTags) {
+            return this;
+        }
+
+        Map<Tag, PersonTree> newPersonsByTag = new HashMap<>(personsByTag);
+        if (hasTargetTags) {
+            for (Tag tag : target.getTags()) {
+                PersonTree persons = newPersonsByTag.get(tag).without(target);
+                if (persons.size() == 0) {
+                    newPersonsByTag.remove(tag);
+                } else {
+                    newPersonsByTag.put(tag, persons);
+                }
+            }
+        }
+        if (hasEditedPersonTags) {
+            for (Tag tag : editedPerson.getTags()) {
+                PersonTree persons = newPersonsByTag.getOrDefault(tag, PersonTree.empty(comparator));
+                newPersonsByTag.put(tag, persons.with(editedPerson));
+            }
+        }
+        return new TagUsage(comparator, newPersonsByTag);
+    }
+}
@@ -3,13 +3,21 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.UpdateCoalescer;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,36 +26,101 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The persons are held in two persistent trees, one sorted by name (with ties broken by id) and one sorted by id,
+ * so identity checks, lookups by id and the position of any person take O(log N). Because the trees are never
+ * modified in place, a {@link Snapshot} of the list can be taken and restored without copying any persons.
+ * The observable list handed out to the UI is a view of the name-sorted tree that reads persons only as they are
+ * shown, so its size is known in O(1) and only the persons on screen are ever read out of the tree.
+ *
+ * Alongside the trees, a {@link TagUsage} records which persons have each tag, so that the persons with a tag are
+ * known without going through the whole list.
+ *
+ * The trees are published together as one immutable {@link Snapshot}, so any thread can read the list without
+ * locking and always sees a consistent state. Changes are made one at a time, each replacing the snapshot. The
+ * observable list is only updated on the UI thread, so changes made on other threads reach it a little later:
+ * all of those made before the next frame is drawn are shown together, as one change.
+ *
+ * Changes made during a transaction only update the trees. The observable list catches up in a single change when
+ * the transaction is committed, so a batch of changes is shown with one pass over the sorted persons instead of
+ * one event per change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
-    private final ObservableList<Person> internalUnmodifiableList =
-            FXCollections.unmodifiableObservableList(internalList);
-    private final PersonNameComparator comparator = new PersonNameComparator();
+    /** The most changes shown one by one in a frame; any more are shown by replacing the observable list. */
+    private static final int MAX_CHANGES_SHOWN_SEPARATELY = 64;
+    /** Replacing more than one in this many persons is done by rebuilding the trees rather than one by one. */
+    private static final int MAX_PERSONS_PER_REPLACEMENT_BEFORE_REBUILD = 32;
+
+    private final Comparator<Person> comparator = new PersonNameComparator().thenComparing(Person::getId);
+    private final Comparator<Person> idComparator = Comparator.comparing(Person::getId);
+    private volatile Snapshot persons = new Snapshot(PersonTree.empty(comparator), PersonTree.empty(idComparator),
+            TagUsage.empty(comparator));
+    private final PersonTreeObservableList internalList = new PersonTreeObservableList(persons.personsByName);
+    private final UpdateCoalescer<ListChange> listChanges = new UpdateCoalescer<>(this::showChanges);
+    private volatile Snapshot transactionStart;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return findById(toCheck.getId()) != null;
+    }
+
+    /**
+     * Returns the person with the given {@code id}, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Person> getPersonById(Id id) {
+        requireNonNull(id);
+        return Optional.ofNullable(findById(id));
+    }
+
+    /**
+     * Returns the number of persons in the list with {@code tag}, in O(1).
+     */
+    public int countPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return persons.tagUsage.countPersonsWith(tag);
+    }
+
+    /**
+     * Returns the number of persons in the list with each tag.
+     * Later changes to the list do not affect the returned counts, and the same counts are returned until a change
+     * touches the tags of some person.
+     */
+    public ToIntFunction<Tag> getTagUsageCounts() {
+        return persons.tagUsage;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the list with {@code tag}, in the order they are listed in.
+     * Later changes to the list do not affect the returned list.
+     */
+    public List<Person> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        return persons.tagUsage.getPersonsWith(tag);
     }
 
     /**
      * Adds a person to the list.
      * The person must not already exist in the list.
      */
-    public void add(Person toAdd) {
+    public synchronized void add(Person toAdd) {
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList, comparator);
+        persons = new Snapshot(persons.personsByName.with(toAdd), persons.personsById.with(toAdd),
+                persons.tagUsage.with(toAdd));
+        if (!isInTransaction()) {
+            PersonTree shown = persons.personsByName;
+            int index = shown.rankOf(toAdd);
+            listChanges.submit(new ListChange(shown, list -> list.showAdded(shown, index)));
+        }
     }
 
     /**
@@ -55,10 +128,10 @@ public class UniquePersonList implements Iterable<Person> {
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
-    public void setPerson(Person target, Person editedPerson) {
+    public synchronized void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -67,25 +140,119 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
-        FXCollections.sort(internalList, comparator);
+        persons = new Snapshot(persons.personsByName.without(target).with(editedPerson),
+                persons.personsById.without(target).with(editedPerson), persons.tagUsage.replace(target, editedPerson));
+        if (isInTransaction()) {
+            return;
+        }
+        PersonTree shown = persons.personsByName;
+        int newIndex = shown.rankOf(editedPerson);
+        listChanges.submit(new ListChange(shown, list -> list.showReplaced(shown, index, target, newIndex)));
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * as if by {@link #setPerson(Person, Person)} for each pair in turn.
+     * Each target must exist in the list, and no edited person may have the same identity as another edited person
+     * or as a person in the list other than its target.
+     *
+     * All pairs are checked before any person is replaced, so either all of them are replaced or none are.
+     * Replacing many persons rebuilds the trees in one pass over the list, instead of changing them once for each
+     * person.
+     */
+    public synchronized void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+        if (targets.size() != editedPersons.size()) {
+            throw new IllegalArgumentException("Each target must have exactly one edited person");
+        }
+        Set<Id> targetIds = new HashSet<>();
+        for (Person target : targets) {
+            if (indexOf(target) == -1 || !targetIds.add(target.getId())) {
+                throw new PersonNotFoundException();
+            }
+        }
+        Set<Id> editedIds = new HashSet<>();
+        boolean isEachIdentityKept = true;
+        for (int i = 0; i < editedPersons.size(); i++) {
+            Id id = editedPersons.get(i).getId();
+            if (!editedIds.add(id) || (!targetIds.contains(id) && findById(id) != null)) {
+                throw new DuplicatePersonException();
+            }
+            isEachIdentityKept &= id.equals(targets.get(i).getId());
+        }
+
+        // One by one, a person may only take the identity of another target once that target has been replaced
+        if (isEachIdentityKept
+                && targets.size() * MAX_PERSONS_PER_REPLACEMENT_BEFORE_REBUILD <= persons.personsByName.size()) {
+            for (int i = 0; i < targets.size(); i++) {
+                setPerson(targets.get(i), editedPersons.get(i));
+            }
+            return;
+        }
+
+        List<Person> sortedPersons = replaceSorted(persons.personsByName, targetIds, editedPersons, comparator);
+        List<Person> personsSortedById = replaceSorted(persons.personsById, targetIds, editedPersons, idComparator);
+        setPersons(new Snapshot(PersonTree.fromSorted(sortedPersons, comparator),
+                PersonTree.fromSorted(personsSortedById, idComparator),
+                TagUsage.fromSorted(sortedPersons, comparator)));
+    }
+
+    /**
+     * Returns the persons in {@code tree} without those with {@code removedIds}, merged with {@code added},
+     * all sorted by {@code comparator}.
+     */
+    private static List<Person> replaceSorted(PersonTree tree, Set<Id> removedIds, List<Person> added,
+            Comparator<Person> comparator) {
+        List<Person> sortedAdded = new ArrayList<>(added);
+        sortedAdded.sort(comparator);
+        List<Person> result = new ArrayList<>(tree.size() - removedIds.size() + added.size());
+        int addedIndex = 0;
+        for (Person person : tree) {
+            if (removedIds.contains(person.getId())) {
+                continue;
+            }
+            while (addedIndex < sortedAdded.size() && comparator.compare(sortedAdded.get(addedIndex), person) < 0) {
+                result.add(sortedAdded.get(addedIndex++));
+            }
+            result.add(person);
+        }
+        result.addAll(sortedAdded.subList(addedIndex, sortedAdded.size()));
+        return result;
     }
 
     /**
      * Removes the equivalent person from the list.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public synchronized void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        persons = new Snapshot(persons.personsByName.without(toRemove), persons.personsById.without(toRemove),
+                persons.tagUsage.without(toRemove));
+        if (!isInTransaction()) {
+            PersonTree shown = persons.personsByName;
+            listChanges.submit(new ListChange(shown, list -> list.showRemoved(shown, index, toRemove)));
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList, comparator);
+        setPersons(replacement.snapshot());
+    }
+
+    /**
+     * Replaces the contents of this list with the persons in {@code snapshot}.
+     * The persons in a snapshot are already known to be unique and sorted, so they are not checked again.
+     */
+    public synchronized void setPersons(Snapshot snapshot) {
+        requireNonNull(snapshot);
+        persons = snapshot;
+        if (!isInTransaction()) {
+            showInList(snapshot);
+        }
     }
 
     /**
@@ -98,20 +265,87 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
-        FXCollections.sort(internalList, comparator);
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(comparator);
+        List<Person> personsSortedById = new ArrayList<>(persons);
+        personsSortedById.sort(idComparator);
+        setPersons(new Snapshot(PersonTree.fromSorted(sortedPersons, comparator),
+                PersonTree.fromSorted(personsSortedById, idComparator),
+                TagUsage.fromSorted(sortedPersons, comparator)));
+    }
+
+    /**
+     * Returns an immutable snapshot of the persons currently in the list.
+     * This takes O(1) time and memory, as the snapshot shares its structure with the list.
+     */
+    public Snapshot snapshot() {
+        return persons;
+    }
+
+    //// transactions
+
+    /**
+     * Starts a transaction. Until it is committed or rolled back, changes to this list are not shown in the
+     * observable list, although they are seen by every other method.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    public synchronized void beginTransaction() {
+        if (isInTransaction()) {
+            throw new IllegalStateException("A transaction is already in progress");
+        }
+        transactionStart = snapshot();
+    }
+
+    /**
+     * Ends the current transaction, showing all of its changes in the observable list as a single change.
+     * No change is fired if the transaction left the list as it was.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    public synchronized void commitTransaction() {
+        requireTransaction();
+        boolean isChanged = persons != transactionStart;
+        transactionStart = null;
+        if (isChanged) {
+            showInList(persons);
+        }
+    }
+
+    /**
+     * Ends the current transaction, undoing all of its changes. The observable list never showed them,
+     * so it is left alone.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    public synchronized void rollbackTransaction() {
+        requireTransaction();
+        persons = transactionStart;
+        transactionStart = null;
+    }
+
+    public boolean isInTransaction() {
+        return transactionStart != null;
+    }
+
+    private void requireTransaction() {
+        if (!isInTransaction()) {
+            throw new IllegalStateException("No transaction is in progress");
+        }
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * During a transaction, the list does not show the changes made so far in the transaction.
+     * The list may only be used on the UI thread.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+        return internalList;
     }
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return persons.personsByName.iterator();
     }
 
     @Override
@@ -126,30 +360,105 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         UniquePersonList otherUniquePersonList = (UniquePersonList) other;
-        return internalList.equals(otherUniquePersonList.internalList);
+        return persons.asList().equals(otherUniquePersonList.persons.asList());
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return persons.asList().hashCode();
     }
 
     @Override
     public String toString() {
-        return internalList.toString();
+        return persons.asList().toString();
+    }
+
+    /**
+     * Replaces the contents of the observable list with the persons in {@code snapshot}, in a single change.
+     */
+    private void showInList(Snapshot snapshot) {
+        PersonTree shown = snapshot.personsByName;
+        listChanges.submit(new ListChange(shown, list -> list.showAll(shown)));
+    }
+
+    /**
+     * Shows {@code changes} in the observable list as a single change.
+     * Changes made faster than they can be shown are combined by showing the persons they left in the list.
+     */
+    private void showChanges(List<ListChange> changes) {
+        if (changes.size() > MAX_CHANGES_SHOWN_SEPARATELY) {
+            internalList.showAll(changes.get(changes.size() - 1).shownPersons);
+            return;
+        }
+        internalList.showTogether(() -> changes.forEach(change -> change.show.accept(internalList)));
+    }
+
+    /**
+     * Returns the person with the given {@code id}, or null if there is none.
+     */
+    private Person findById(Id id) {
+        return persons.personsById.find(person -> id.compareTo(person.getId()));
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if no person with exactly the same fields is in it.
+     */
+    private int indexOf(Person person) {
+        Snapshot current = persons;
+        Person found = current.personsByName.find(person);
+        if (found == null || !found.equals(person)) {
+            return -1;
+        }
+        return current.personsByName.rankOf(person);
     }
 
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Id> seenIds = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenIds.add(person.getId())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * A change waiting to be shown in the observable list, and the persons the list shows after it.
+     */
+    private static final class ListChange {
+        private final PersonTree shownPersons;
+        private final Consumer<PersonTreeObservableList> show;
+
+        ListChange(PersonTree shownPersons, Consumer<PersonTreeObservableList> show) {
+            this.shownPersons = shownPersons;
+            this.show = show;
+        }
+    }
+
+    /**
+     * An immutable snapshot of the persons in a {@code UniquePersonList}.
+     * Snapshots share their structure with the list they were taken from and with each other,
+     * so keeping several of them around costs memory only for the persons that differ between them.
+     */
+    public static final class Snapshot {
+        private final PersonTree personsByName;
+        private final PersonTree personsById;
+        private final TagUsage tagUsage;
+
+        private Snapshot(PersonTree personsByName, PersonTree personsById, TagUsage tagUsage) {
+            this.personsByName = personsByName;
+            this.personsById = personsById;
+            this.tagUsage = tagUsage;
+        }
+
+        /**
+         * Returns an unmodifiable view of the persons in this snapshot, in the order they were in the list.
+         */
+        public List<Person> asList() {
+            return personsByName.asList();
+        }
+    }
 }
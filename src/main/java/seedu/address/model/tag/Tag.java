@@ -3,9 +3,23 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Each tag name is given an ordinal the first time it is seen, which every tag with that name shares for as long as
+ * the app runs. {@link #of(String)} returns one shared tag for each name, so a tag read many times over, such as a
+ * department shared by many persons, is only held once. The ordinals let a {@link TagSet} hold a person's tags as a
+ * bitset.
+ *
+ * The shared tags are kept for the whole app rather than in a {@link TagList}, since a person may hold a tag that is
+ * not in the tag list, and a set of ordinals must mean the same tags whichever address book it came from. A tag is
+ * never forgotten, so the shared tags grow with every different tag name seen while the app runs.
  */
 public class Tag {
 
@@ -13,24 +27,72 @@ public class Tag {
                 + "(i.e. no whitespace characters).";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final Map<String, Tag> sharedTagsByName = new ConcurrentHashMap<>();
+    /**
+     * The shared tag of each ordinal given so far, followed by free room for more. It is reassigned after every new
+     * tag, to a copy twice as long when it is full, so it can be read without locking.
+     */
+    private static volatile Tag[] sharedTags = new Tag[16];
+    private static int sharedTagCount;
+
     public final String tagName;
+    private final int ordinal;
+
+    private Tag(String tagName, int ordinal) {
+        this.tagName = tagName;
+        this.ordinal = ordinal;
+    }
 
     /**
-     * Constructs a {@code Tag}.
+     * Returns the shared tag named {@code tagName}.
      *
      * @param tagName A valid tag name.
      */
-    public Tag(String tagName) {
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
+        Tag tag = sharedTagsByName.get(tagName);
+        if (tag != null) {
+            return tag;
+        }
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        return share(tagName);
+    }
+
+    private static synchronized Tag share(String tagName) {
+        Tag tag = sharedTagsByName.get(tagName);
+        if (tag == null) {
+            Tag[] newSharedTags = sharedTagCount < sharedTags.length
+                    ? sharedTags
+                    : Arrays.copyOf(sharedTags, sharedTags.length * 2);
+            tag = new Tag(tagName, sharedTagCount++);
+            newSharedTags[tag.ordinal] = tag;
+            sharedTags = newSharedTags;
+            sharedTagsByName.put(tagName, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Returns the shared tag with {@code ordinal}, which must have been given to a tag.
+     */
+    public static Tag ofOrdinal(int ordinal) {
+        return sharedTags[ordinal];
+    }
+
+    /**
+     * Returns the ordinal of the name of this tag, the same for every tag with that name.
+     */
+    public int getOrdinal() {
+        return ordinal;
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return sharedTagsByName.containsKey(test) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -45,7 +107,7 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equals(otherTag.tagName);
+        return ordinal == otherTag.ordinal;
     }
 
     @Override
@@ -1,20 +1,35 @@
 package seedu.address.model.tag;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
 
 /**
  * Represents the list of valid tags for the addressbook.
+ * The tags may be read from any thread while they are being changed.
+ *
+ * The tags are kept in a hash set in the order they were added, so checking, adding and deleting a tag takes the
+ * same time however many tags there are. The list of tags and its listing are built only when first asked for
+ * after a change, and reused until the next one. A listing with usage counts is also rebuilt when it is asked for
+ * with other counts.
  */
 public class TagList {
 
-    private List<Tag> tagList;
+    private final Set<Tag> tags = new LinkedHashSet<>();
+    /** The tags in order, or null if they changed since it was last built. */
+    private List<Tag> tagListSnapshot;
+    /** The listing of the tags, or null if they changed since it was last built. */
+    private String renderedTags;
+    /** The usage counts {@code renderedTags} shows, or null if it shows none. */
+    private ToIntFunction<Tag> renderedUsageCounts;
 
     /**
      * Constructs a blank {@code TagList}.
      */
     public TagList() {
-        tagList = new ArrayList<>();
     }
 
     /**
@@ -22,53 +37,95 @@ public class TagList {
      */
     public static TagList getSampleTagList() {
         TagList sample = new TagList();
-        sample.addTag(new Tag("HR"));
-        sample.addTag(new Tag("operations"));
-        sample.addTag(new Tag("finance"));
-        sample.addTag(new Tag("marketing"));
-        sample.addTag(new Tag("IT"));
-        sample.addTag(new Tag("sales"));
-        sample.addTag(new Tag("RnD"));
+        sample.addTag(Tag.of("HR"));
+        sample.addTag(Tag.of("operations"));
+        sample.addTag(Tag.of("finance"));
+        sample.addTag(Tag.of("marketing"));
+        sample.addTag(Tag.of("IT"));
+        sample.addTag(Tag.of("sales"));
+        sample.addTag(Tag.of("RnD"));
         return sample;
     }
 
     /**
-     * Returns the tag list.
+     * Returns the tags, in the order they were added, as an unmodifiable list.
+     * Later changes to the tag list do not affect the returned list.
      */
-    public List<Tag> getTagList() {
-        return tagList;
+    public synchronized List<Tag> getTagList() {
+        if (tagListSnapshot == null) {
+            tagListSnapshot = List.copyOf(tags);
+        }
+        return tagListSnapshot;
+    }
+
+    /**
+     * Replaces the tags in the tag list with {@code tags}.
+     */
+    public synchronized void setTags(List<Tag> tags) {
+        this.tags.clear();
+        this.tags.addAll(tags);
+        invalidateCaches();
     }
 
     /**
      * Returns true if a tag with the same name as {@code tag} exists.
      */
-    public boolean hasTag(Tag tag) {
-        return tagList.contains(tag);
+    public synchronized boolean hasTag(Tag tag) {
+        return tags.contains(tag);
     }
 
     /**
      * Adds a tag to the tag list.
      * The tag must not already exist in the tag list.
      */
-    public void addTag(Tag tag) {
-        tagList.add(tag);
+    public synchronized void addTag(Tag tag) {
+        tags.add(tag);
+        invalidateCaches();
     }
 
     /**
      * Deletes the given tag.
      * The tag must exist in the tag list.
      */
-    public void deleteTag(Tag tag) {
-        tagList.remove(tag);
+    public synchronized void deleteTag(Tag tag) {
+        tags.remove(tag);
+        invalidateCaches();
     }
 
     /**
      * List the tags in the tag list.
      */
-    public String listTags() {
+    public synchronized String listTags() {
+        return getRenderedTags(null);
+    }
+
+    /**
+     * List the tags in the tag list, each with the number of persons given by {@code usageCounts}.
+     * {@code usageCounts} must not change; the listing is reused for as long as the same counts are passed in and
+     * the tags do not change.
+     */
+    public synchronized String listTags(ToIntFunction<Tag> usageCounts) {
+        requireNonNull(usageCounts);
+        return getRenderedTags(usageCounts);
+    }
+
+    private String getRenderedTags(ToIntFunction<Tag> usageCounts) {
+        if (renderedTags == null || renderedUsageCounts != usageCounts) {
+            renderedTags = renderTags(usageCounts);
+            renderedUsageCounts = usageCounts;
+        }
+        return renderedTags;
+    }
+
+    private String renderTags(ToIntFunction<Tag> usageCounts) {
         StringBuilder sb = new StringBuilder();
-        for (Tag tag : tagList) {
+        for (Tag tag : tags) {
             sb.append(tag.tagName);
+            if (usageCounts != null) {
+                sb.append(" (");
+                sb.append(usageCounts.applyAsInt(tag));
+                sb.append(")");
+            }
             sb.append("\n");
         }
 
@@ -78,4 +135,10 @@ public class TagList {
             return sb.toString();
         }
     }
+
+    private void invalidateCaches() {
+        tagListSnapshot = null;
+        renderedTags = null;
+        renderedUsageCounts = null;
+    }
 }
@@ -0,0 +1,270 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+
+/**
+ * Represents an immutable set of tags, held as a bitset over the ordinals of their names.
+ * Checking whether a tag is in the set takes O(1), and the set holds no tags of its own: they are read back from the
+ * shared tags as the set is iterated over, in the order their names were first seen. Any attempt to modify the set
+ * throws {@code UnsupportedOperationException}.
+ *
+ * Sets are shared too: {@link #of(Collection)} returns the same set for the same tags, so persons with the same tags,
+ * such as everyone in one department, all hold one set. A shared set is only kept while something still holds it.
+ * Finding a shared set takes no lock, so persons can be built on many threads at once.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new long[0]);
+    /** The shared set of the ordinals of each set still held somewhere. */
+    private static final ConcurrentMap<Ordinals, SharedSetReference> sharedSets = new ConcurrentHashMap<>();
+    /** The references to shared sets that are no longer held, whose entries are still to be removed. */
+    private static final ReferenceQueue<TagSet> unheldSets = new ReferenceQueue<>();
+
+    /**
+     * Bit {@code i % 64} of word {@code i / 64} is set if the tag with ordinal {@code i} is in the set.
+     * The last word is never 0, so sets of the same tags have the same words.
+     */
+    private final long[] words;
+    private final int size;
+    private final int hashCode;
+
+    private TagSet(long[] words) {
+        this.words = words;
+        int size = 0;
+        int hashCode = 0;
+        for (Tag tag : this) {
+            size++;
+            hashCode += tag.hashCode();
+        }
+        this.size = size;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Returns the shared set of {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        long[] words = new long[0];
+        for (Tag tag : tags) {
+            int ordinal = tag.getOrdinal();
+            int word = ordinal >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << ordinal;
+        }
+        return share(words);
+    }
+
+    /**
+     * Returns the shared set of the tags whose ordinals are set in {@code words}, where bit {@code i % 64} of word
+     * {@code i / 64} stands for the tag with ordinal {@code i}. Every set bit must be the ordinal of a tag.
+     */
+    public static TagSet ofOrdinals(long[] words) {
+        requireNonNull(words);
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        if (length == 0) {
+            return EMPTY;
+        }
+        return share(Arrays.copyOf(words, length));
+    }
+
+    /**
+     * Returns the shared set of the ordinals set in {@code words}, whose last word must not be 0.
+     * The set is only created if there is no shared one yet.
+     */
+    private static TagSet share(long[] words) {
+        Ordinals ordinals = new Ordinals(words);
+        TagSet sharedSet = get(sharedSets.get(ordinals));
+        if (sharedSet != null) {
+            return sharedSet;
+        }
+
+        removeUnheldSets();
+        TagSet[] result = new TagSet[1];
+        sharedSets.compute(ordinals, (unused, reference) -> {
+            result[0] = get(reference);
+            if (result[0] != null) {
+                return reference;
+            }
+            result[0] = new TagSet(words);
+            return new SharedSetReference(result[0], ordinals);
+        });
+        return result[0];
+    }
+
+    private static TagSet get(SharedSetReference reference) {
+        return reference == null ? null : reference.get();
+    }
+
+    private static void removeUnheldSets() {
+        Reference<? extends TagSet> reference;
+        while ((reference = unheldSets.poll()) != null) {
+            sharedSets.remove(((SharedSetReference) reference).ordinals, reference);
+        }
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        if (!(other instanceof Tag)) {
+            return false;
+        }
+        int ordinal = ((Tag) other).getOrdinal();
+        int word = ordinal >>> 6;
+        return word < words.length && (words[word] & (1L << ordinal)) != 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int nextOrdinal = findOrdinal(0);
+
+            @Override
+            public boolean hasNext() {
+                return nextOrdinal != -1;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Tag tag = Tag.ofOrdinal(nextOrdinal);
+                nextOrdinal = findOrdinal(nextOrdinal + 1);
+                return tag;
+            }
+        };
+    }
+
+    /**
+     * Returns the lowest ordinal in the set that is at least {@code fromOrdinal}, or -1 if there is none.
+     */
+    private int findOrdinal(int fromOrdinal) {
+        int word = fromOrdinal >>> 6;
+        if (word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << fromOrdinal);
+        while (bits == 0) {
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+        return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> others) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof TagSet) {
+            return Arrays.equals(words, ((TagSet) other).words);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    /**
+     * The ordinals of a set, as its words, which are compared by value.
+     */
+    private static final class Ordinals {
+        private final long[] words;
+        private final int hashCode;
+
+        Ordinals(long[] words) {
+            this.words = words;
+            this.hashCode = Arrays.hashCode(words);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Ordinals && Arrays.equals(words, ((Ordinals) other).words);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * A reference to a shared set that does not keep it from being collected, with the ordinals it is shared under.
+     */
+    private static final class SharedSetReference extends WeakReference<TagSet> {
+        private final Ordinals ordinals;
+
+        SharedSetReference(TagSet tagSet, Ordinals ordinals) {
+            super(tagSet, unheldSets);
+            this.ordinals = ordinals;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ChangeRecord;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Jackson-friendly version of an entry in an undo journal: either a {@link ChangeRecord}, or a marker that the
+ * most recent change was undone or redone.
+ *
+ * The address book held by a record of a clear is not written into the entry, which would make one entry as large
+ * as the whole address book, but kept as a snapshot in a {@link SnapshotStore}, which the entry refers to by name.
+ * Entries written before snapshots were used hold the persons themselves, and can still be read.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+class JsonAdaptedChangeRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String INVALID_ACTION_MESSAGE = "Journal entry's action is not recognised: %s";
+
+    private static final String ACTION_UNDO = "UNDO";
+    private static final String ACTION_REDO = "REDO";
+
+    private final String action;
+    private final JsonAdaptedPerson before;
+    private final JsonAdaptedPerson after;
+    private final String snapshot;
+    private final List<JsonAdaptedPerson> personsBeforeClear = new ArrayList<>();
+    private final List<JsonAdaptedChangeRecord> changes = new ArrayList<>();
+    private final List<JsonAdaptedTag> tagsRemoved = new ArrayList<>();
+    private final List<JsonAdaptedTag> tagsAdded = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedChangeRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedChangeRecord(@JsonProperty("action") String action,
+            @JsonProperty("before") JsonAdaptedPerson before, @JsonProperty("after") JsonAdaptedPerson after,
+            @JsonProperty("snapshot") String snapshot,
+            @JsonProperty("personsBeforeClear") List<JsonAdaptedPerson> personsBeforeClear,
+            @JsonProperty("changes") List<JsonAdaptedChangeRecord> changes,
+            @JsonProperty("tagsRemoved") List<JsonAdaptedTag> tagsRemoved,
+            @JsonProperty("tagsAdded") List<JsonAdaptedTag> tagsAdded) {
+        this.action = action;
+        this.before = before;
+        this.after = after;
+        this.snapshot = snapshot;
+        if (personsBeforeClear != null) {
+            this.personsBeforeClear.addAll(personsBeforeClear);
+        }
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+        if (tagsRemoved != null) {
+            this.tagsRemoved.addAll(tagsRemoved);
+        }
+        if (tagsAdded != null) {
+            this.tagsAdded.addAll(tagsAdded);
+        }
+    }
+
+    /**
+     * Converts a given {@code ChangeRecord} into this class for Jackson use, saving the address book of any clear
+     * in it to {@code snapshots}.
+     *
+     * @throws IOException if a snapshot could not be saved.
+     */
+    public JsonAdaptedChangeRecord(ChangeRecord source, SnapshotStore snapshots) throws IOException {
+        action = source.getKind().name();
+        before = source.getBefore() == null ? null : new JsonAdaptedPerson(source.getBefore());
+        after = source.getAfter() == null ? null : new JsonAdaptedPerson(source.getAfter());
+        snapshot = source.getAddressBookBeforeClear() == null
+                ? null
+                : snapshots.save(source.getAddressBookBeforeClear());
+        if (source.getChanges() != null) {
+            for (ChangeRecord change : source.getChanges()) {
+                changes.add(new JsonAdaptedChangeRecord(change, snapshots));
+            }
+        }
+        if (source.getTagsRemoved() != null) {
+            source.getTagsRemoved().forEach(tag -> tagsRemoved.add(new JsonAdaptedTag(tag)));
+            source.getTagsAdded().forEach(tag -> tagsAdded.add(new JsonAdaptedTag(tag)));
+        }
+    }
+
+    /**
+     * Returns an entry recording that the most recent change was undone.
+     */
+    public static JsonAdaptedChangeRecord undo() {
+        return new JsonAdaptedChangeRecord(ACTION_UNDO, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry recording that the most recently undone change was redone.
+     */
+    public static JsonAdaptedChangeRecord redo() {
+        return new JsonAdaptedChangeRecord(ACTION_REDO, null, null, null, null, null, null, null);
+    }
+
+    public boolean isUndo() {
+        return ACTION_UNDO.equals(action);
+    }
+
+    public boolean isRedo() {
+        return ACTION_REDO.equals(action);
+    }
+
+    /**
+     * Adds the names of the snapshots this entry refers to, including those of the changes in it, to {@code names}.
+     */
+    public void collectSnapshots(Collection<String> names) {
+        if (snapshot != null) {
+            names.add(snapshot);
+        }
+        changes.forEach(change -> change.collectSnapshots(names));
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted entry into the model's {@code ChangeRecord} object, reading the
+     * address book of any clear in it from {@code snapshots}.
+     * Must not be called on an undo or redo marker.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted entry, or a snapshot
+     *     it refers to could not be read.
+     */
+    public ChangeRecord toModelType(SnapshotStore snapshots) throws IllegalValueException {
+        assert !isUndo() && !isRedo();
+        if (action == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "action"));
+        }
+
+        ChangeRecord.Kind kind;
+        try {
+            kind = ChangeRecord.Kind.valueOf(action);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(INVALID_ACTION_MESSAGE, action));
+        }
+
+        if (kind == ChangeRecord.Kind.GROUP) {
+            List<ChangeRecord> groupedChanges = new ArrayList<>();
+            for (JsonAdaptedChangeRecord change : changes) {
+                if (change.isUndo() || change.isRedo()) {
+                    throw new IllegalValueException(String.format(INVALID_ACTION_MESSAGE, change.action));
+                }
+                groupedChanges.add(change.toModelType(snapshots));
+            }
+            return ChangeRecord.ofGroup(groupedChanges);
+        }
+
+        switch (kind) {
+        case ADD:
+            return ChangeRecord.ofAdd(toPerson(after, "after"));
+        case DELETE:
+            return ChangeRecord.ofDelete(toPerson(before, "before"));
+        case EDIT:
+            return ChangeRecord.ofEdit(toPerson(before, "before"), toPerson(after, "after"));
+        case TAGS:
+            return ChangeRecord.ofTags(toTags(tagsRemoved), toTags(tagsAdded));
+        default:
+            return ChangeRecord.ofClear(snapshot != null
+                    ? snapshots.load(snapshot)
+                    : new JsonSerializableAddressBook(personsBeforeClear).toModelType());
+        }
+    }
+
+    private static List<Tag> toTags(List<JsonAdaptedTag> tags) throws IllegalValueException {
+        List<Tag> modelTags = new ArrayList<>();
+        for (JsonAdaptedTag tag : tags) {
+            modelTags.add(tag.toModelType());
+        }
+        return modelTags;
+    }
+
+    private static Person toPerson(JsonAdaptedPerson person, String fieldName) throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Keeps the address books of clears outside the journal entries that refer to them.
+     */
+    interface SnapshotStore {
+        /**
+         * Saves {@code addressBook} as a new snapshot and returns its name.
+         */
+        String save(ReadOnlyAddressBook addressBook) throws IOException;
+
+        /**
+         * Returns the address book saved as the snapshot {@code name}.
+         *
+         * @throws IllegalValueException if the snapshot is missing or could not be read.
+         */
+        ReadOnlyAddressBook load(String name) throws IllegalValueException;
+    }
+}
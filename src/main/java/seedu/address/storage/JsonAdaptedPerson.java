@@ -1,7 +1,6 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -15,6 +14,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -26,8 +26,6 @@ class JsonAdaptedPerson {
     private final String name;
     private final String id;
     private final String phone;
-    private final String email;
-    private final String address;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
 
     //    /**
@@ -61,8 +59,6 @@ class JsonAdaptedPerson {
         this.name = name;
         this.id = id;
         this.phone = phone;
-        this.email = "test";
-        this.address = "test";
         if (tags != null) {
             this.tags.addAll(tags);
         }
@@ -73,14 +69,11 @@ class JsonAdaptedPerson {
      */
     public JsonAdaptedPerson(Person source) {
         name = source.getName().fullName;
-        phone = source.getPhone().value;
+        phone = source.getPhone().toString();
         id = source.getId().value;
         tags.addAll(source.getTags().stream()
                .map(JsonAdaptedTag::new)
                .collect(Collectors.toList()));
-        email = "test";
-        address = "test";
-
     }
 
     /**
@@ -93,7 +86,7 @@ class JsonAdaptedPerson {
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
         }
-        final Set<Tag> modelTags = new HashSet<>(personTags);
+        final Set<Tag> modelTags = TagSet.of(personTags);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
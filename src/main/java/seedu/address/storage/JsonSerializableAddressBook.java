@@ -1,17 +1,24 @@
 package seedu.address.storage;
 
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +28,11 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    /** The fewest persons worth spreading over several threads to convert. */
+    private static final int MIN_PERSONS_CONVERTED_IN_PARALLEL = 1000;
+    /** The number of persons read from a file before they are converted together. */
+    private static final int PERSONS_READ_PER_BATCH = 4096;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -40,19 +52,77 @@ class JsonSerializableAddressBook {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
     }
 
+    /**
+     * Reads the address book in the JSON file at {@code filePath} into the model's {@code AddressBook} object,
+     * or returns {@code Optional.empty()} if the file is not found.
+     * The persons are streamed from the file and converted a batch at a time as they are read, so only a batch of
+     * them is ever held in their JSON form, rather than every person in the file. Invalid persons are reported as
+     * {@link #toModelType()} reports them.
+     *
+     * @throws DataLoadingException if loading of the JSON file failed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>();
+        List<JsonAdaptedPerson> batch = new ArrayList<>(PERSONS_READ_PER_BATCH);
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, "persons", JsonAdaptedPerson.class, person -> {
+            batch.add(person);
+            if (batch.size() == PERSONS_READ_PER_BATCH) {
+                modelPersons.addAll(toModelPersons(batch));
+                batch.clear();
+            }
+        });
+        if (!isFound) {
+            return Optional.empty();
+        }
+        modelPersons.addAll(toModelPersons(batch));
+        return Optional.of(toAddressBook(modelPersons));
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Large address books have their persons converted and checked in parallel. If several persons are invalid,
+     * the first of them is reported, as it would be if they were converted one by one.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        return toAddressBook(toModelPersons(persons));
+    }
+
+    /**
+     * Converts {@code persons} into the model's persons, in parallel if there are enough of them, and reports the
+     * first invalid person if there are any.
+     */
+    private static List<Person> toModelPersons(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        Person[] modelPersons = new Person[persons.size()];
+        IllegalValueException[] errors = new IllegalValueException[persons.size()];
+        IntStream indices = IntStream.range(0, persons.size());
+        if (persons.size() >= MIN_PERSONS_CONVERTED_IN_PARALLEL) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                modelPersons[i] = persons.get(i).toModelType();
+            } catch (IllegalValueException e) {
+                errors[i] = e;
             }
-            addressBook.addPerson(person);
+        });
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return Arrays.asList(modelPersons);
+    }
+
+    private static AddressBook toAddressBook(List<Person> modelPersons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
@@ -0,0 +1,352 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ChangeRecord;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UndoJournal;
+
+/**
+ * An {@code UndoJournal} kept in a file of JSON lines, one per change, undo or redo.
+ * Entries are written in order by a single background thread, so appending never waits for the disk.
+ * Once the file grows past {@code maxFileBytes}, it is compacted to the history it describes, keeping at most
+ * the {@code maxChanges} most recent changes.
+ *
+ * The address book held by a clear is saved as a snapshot file next to the journal, named after it, rather than in
+ * the journal itself, so a clear of a large address book takes one short line like any other change. Snapshots are
+ * not counted in {@code maxFileBytes}; each is deleted once the clear it belongs to is compacted away, so at most
+ * {@code maxChanges} of them are kept. The file is read a line at a time, and snapshots are only read when the
+ * history is, never when it is compacted.
+ */
+public class JsonUndoJournal implements UndoJournal {
+
+    public static final int DEFAULT_MAX_CHANGES = 100;
+    public static final long DEFAULT_MAX_FILE_BYTES = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonUndoJournal.class);
+
+    private final Path filePath;
+    /** The start of the names of the snapshot files of this journal. */
+    private final String snapshotPrefix;
+    private final JsonAdaptedChangeRecord.SnapshotStore snapshots = new SnapshotFiles();
+    private final int maxChanges;
+    private final long maxFileBytes;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "undo-journal-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public JsonUndoJournal(Path filePath) {
+        this(filePath, DEFAULT_MAX_CHANGES, DEFAULT_MAX_FILE_BYTES);
+    }
+
+    /**
+     * Constructs a journal kept in {@code filePath}, which is compacted to at most {@code maxChanges} changes
+     * whenever it grows past {@code maxFileBytes}.
+     */
+    public JsonUndoJournal(Path filePath, int maxChanges, long maxFileBytes) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotPrefix = filePath.getFileName() + ".clear-";
+        this.maxChanges = maxChanges;
+        this.maxFileBytes = maxFileBytes;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void appendChange(ChangeRecord change) {
+        requireNonNull(change);
+        append(() -> new JsonAdaptedChangeRecord(change, snapshots));
+    }
+
+    @Override
+    public void appendUndo() {
+        append(JsonAdaptedChangeRecord::undo);
+    }
+
+    @Override
+    public void appendRedo() {
+        append(JsonAdaptedChangeRecord::redo);
+    }
+
+    @Override
+    public History readHistory() throws DataLoadingException {
+        try {
+            // Queued behind any pending appends, so those are included
+            return writer.submit(this::replay).get();
+        } catch (RejectedExecutionException e) {
+            try {
+                return replay();
+            } catch (IOException ioe) {
+                throw new DataLoadingException(ioe);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw new DataLoadingException(cause instanceof Exception ? (Exception) cause : e);
+        }
+    }
+
+    @Override
+    public void clear() {
+        submit(() -> {
+            Files.deleteIfExists(filePath);
+            deleteSnapshotsExcept(Collections.emptySet());
+        });
+    }
+
+    @Override
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                logger.warning("Timed out writing the last entries of undo journal " + filePath);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Appends the entry given by {@code entry} to the file in the background, compacting the file if it has
+     * grown too large. The entry is only converted to JSON on the background thread.
+     */
+    private void append(EntryFactory entry) {
+        submit(() -> {
+            FileUtil.createParentDirsOfFile(filePath);
+            String line = JsonUtil.toSingleLineJsonString(entry.get()) + "\n";
+            Files.write(filePath, line.getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            if (Files.size(filePath) > maxFileBytes) {
+                compact();
+            }
+        });
+    }
+
+    private void submit(FileTask task) {
+        try {
+            writer.execute(() -> {
+                try {
+                    task.run();
+                } catch (IOException e) {
+                    logger.warning("Could not write to undo journal " + filePath + ": " + StringUtil.getDetails(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.warning("Undo journal " + filePath + " is already closed; entry not recorded");
+        }
+    }
+
+    /**
+     * Reads the history described by the file.
+     * An unreadable entry, such as one cut short by a crash while it was being written, ends the history there.
+     */
+    private History replay() throws IOException {
+        List<JsonAdaptedChangeRecord> entries = new ArrayList<>();
+        int appliedCount = readChanges(entries);
+        List<ChangeRecord> changes = new ArrayList<>();
+        for (JsonAdaptedChangeRecord entry : entries) {
+            try {
+                changes.add(entry.toModelType(snapshots));
+            } catch (IllegalValueException e) {
+                logger.warning("Ignoring undo journal " + filePath + " from an unreadable entry onwards: " + e);
+                break;
+            }
+        }
+        return new History(changes, Math.min(appliedCount, changes.size()));
+    }
+
+    /**
+     * Reads the file a line at a time into {@code changes}, the entries of the changes in the history it describes,
+     * and returns the number of them that are applied. Snapshots are not read.
+     * An entry that cannot be parsed, such as one cut short by a crash while it was being written, ends the history
+     * there.
+     */
+    private int readChanges(List<JsonAdaptedChangeRecord> changes) throws IOException {
+        int appliedCount = 0;
+        if (!Files.exists(filePath)) {
+            return appliedCount;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonAdaptedChangeRecord entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedChangeRecord.class);
+                } catch (IOException e) {
+                    logger.warning("Ignoring undo journal " + filePath + " from an unreadable entry onwards: " + e);
+                    break;
+                }
+                if (entry.isUndo()) {
+                    appliedCount = Math.max(appliedCount - 1, 0);
+                } else if (entry.isRedo()) {
+                    appliedCount = Math.min(appliedCount + 1, changes.size());
+                } else {
+                    changes.subList(appliedCount, changes.size()).clear();
+                    changes.add(entry);
+                    appliedCount++;
+                }
+            }
+        }
+        return appliedCount;
+    }
+
+    /**
+     * Rewrites the file as just the history it describes, keeping at most the {@code maxChanges} most recent
+     * changes and using at most half of {@code maxFileBytes}, so that it is not compacted again on the next append.
+     * The most recent change is always kept, even if it alone is larger than that, such as a clear of a large
+     * address book, since it is the one most likely to be undone.
+     */
+    private void compact() throws IOException {
+        List<JsonAdaptedChangeRecord> changes = new ArrayList<>();
+        int appliedCount = readChanges(changes);
+        List<JsonAdaptedChangeRecord> keptChanges =
+                changes.subList(Math.max(changes.size() - maxChanges, 0), changes.size());
+        List<String> lines = new ArrayList<>();
+        for (JsonAdaptedChangeRecord change : keptChanges) {
+            lines.add(JsonUtil.toSingleLineJsonString(change) + "\n");
+        }
+        appliedCount -= changes.size() - lines.size();
+
+        long bytes = 0;
+        for (String line : lines) {
+            bytes += line.getBytes(StandardCharsets.UTF_8).length;
+        }
+        int toDrop = 0;
+        while (toDrop < lines.size() - 1 && bytes > maxFileBytes / 2) {
+            bytes -= lines.get(toDrop).getBytes(StandardCharsets.UTF_8).length;
+            toDrop++;
+        }
+        if (toDrop > 0) {
+            logger.warning("Dropped the " + toDrop + " oldest change(s) from undo journal " + filePath
+                    + " to keep it under " + maxFileBytes + " bytes; they can no longer be undone after a restart");
+        }
+        if (bytes > maxFileBytes / 2) {
+            logger.warning("Kept the most recent change in undo journal " + filePath + " although it takes "
+                    + bytes + " bytes, more than half of the " + maxFileBytes + " bytes the journal may use");
+        }
+        appliedCount -= toDrop;
+        lines = lines.subList(toDrop, lines.size());
+        keptChanges = keptChanges.subList(toDrop, keptChanges.size());
+
+        StringBuilder content = new StringBuilder();
+        if (appliedCount < 0) {
+            lines = List.of();
+            keptChanges = List.of();
+        } else {
+            // Undone changes can only be redone in order, so they are kept only if no earlier change was dropped
+            lines.forEach(content::append);
+            String undoLine = JsonUtil.toSingleLineJsonString(JsonAdaptedChangeRecord.undo()) + "\n";
+            for (int i = appliedCount; i < lines.size(); i++) {
+                content.append(undoLine);
+            }
+        }
+
+        Path compactedFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        FileUtil.writeToFile(compactedFilePath, content.toString());
+        Files.move(compactedFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        Set<String> keptSnapshots = new HashSet<>();
+        keptChanges.forEach(change -> change.collectSnapshots(keptSnapshots));
+        deleteSnapshotsExcept(keptSnapshots);
+        logger.fine("Compacted undo journal " + filePath + " to " + lines.size() + " change(s)");
+    }
+
+    /**
+     * Deletes the snapshot files of this journal other than those named in {@code keptSnapshots}.
+     */
+    private void deleteSnapshotsExcept(Set<String> keptSnapshots) throws IOException {
+        Path folder = filePath.toAbsolutePath().getParent();
+        if (!Files.isDirectory(folder)) {
+            return;
+        }
+        try (DirectoryStream<Path> snapshotFiles = Files.newDirectoryStream(folder, file ->
+                file.getFileName().toString().startsWith(snapshotPrefix))) {
+            for (Path snapshotFile : snapshotFiles) {
+                if (!keptSnapshots.contains(snapshotFile.getFileName().toString())) {
+                    Files.deleteIfExists(snapshotFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * The snapshot files of this journal, kept in the same folder as it.
+     */
+    private class SnapshotFiles implements JsonAdaptedChangeRecord.SnapshotStore {
+        @Override
+        public String save(ReadOnlyAddressBook addressBook) throws IOException {
+            String name = snapshotPrefix + UUID.randomUUID() + ".json";
+            Path snapshotFile = filePath.resolveSibling(name);
+            FileUtil.createParentDirsOfFile(snapshotFile);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), snapshotFile);
+            return name;
+        }
+
+        @Override
+        public ReadOnlyAddressBook load(String name) throws IllegalValueException {
+            // Only files of this journal, in its own folder, can be named
+            if (!name.startsWith(snapshotPrefix) || name.contains("/") || name.contains("\\")) {
+                throw new IllegalValueException("Journal entry's snapshot is not one of its own: " + name);
+            }
+            try {
+                return JsonSerializableAddressBook.readAddressBook(filePath.resolveSibling(name)).orElseThrow(() ->
+                        new IllegalValueException("Journal entry's snapshot is missing: " + name));
+            } catch (DataLoadingException e) {
+                throw new IllegalValueException("Journal entry's snapshot could not be read: " + name, e);
+            }
+        }
+    }
+
+    /**
+     * Makes an entry to append to the journal, on the writer thread.
+     */
+    @FunctionalInterface
+    private interface EntryFactory {
+        JsonAdaptedChangeRecord get() throws IOException;
+    }
+
+    /**
+     * A task run on the writer thread that may fail with an {@code IOException}.
+     */
+    @FunctionalInterface
+    private interface FileTask {
+        void run() throws IOException;
+    }
+}
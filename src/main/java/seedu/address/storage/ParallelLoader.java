@@ -0,0 +1,135 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+/**
+ * Loads several pieces of data from storage at the same time, such as the user prefs, the address book and the
+ * tag list, and keeps track of how long each of them took.
+ *
+ * Loads run on a small pool of threads shared by all loaders, which is no larger than the number of pieces of
+ * data the app loads at once, and whose threads are only kept while there is loading to do.
+ */
+public class ParallelLoader {
+    public static final int MAX_THREADS = 3;
+
+    private static final ThreadPoolExecutor loaderThreads = createLoaderThreads();
+
+    private final long startNanos = System.nanoTime();
+    private final List<String> timings = new ArrayList<>();
+
+    /**
+     * Starts loading the data read by {@code read}, which is called {@code description} in the timings.
+     */
+    public <T> Load<T> load(String description, StorageRead<T> read) {
+        requireNonNull(description);
+        requireNonNull(read);
+        CompletableFuture<T> result = CompletableFuture.supplyAsync(() -> {
+            long loadStartNanos = System.nanoTime();
+            try {
+                return read.read();
+            } catch (DataLoadingException e) {
+                throw new CompletionException(e);
+            } finally {
+                recordTiming(description, System.nanoTime() - loadStartNanos);
+            }
+        }, loaderThreads);
+        return new Load<>(result);
+    }
+
+    /**
+     * Runs {@code action} on the calling thread, alongside the loads already started, and returns its result.
+     * It is called {@code description} in the timings.
+     */
+    public <T> T run(String description, Supplier<T> action) {
+        requireNonNull(description);
+        requireNonNull(action);
+        long runStartNanos = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            recordTiming(description, System.nanoTime() - runStartNanos);
+        }
+    }
+
+    /**
+     * Returns how long each load and run that has finished took, and how long it has been since this loader
+     * was created.
+     */
+    public synchronized String getTimings() {
+        return String.join(", ", timings) + "; " + toMillis(System.nanoTime() - startNanos) + " ms in total";
+    }
+
+    private synchronized void recordTiming(String description, long nanos) {
+        timings.add(description + " " + toMillis(nanos) + " ms");
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static ThreadPoolExecutor createLoaderThreads() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "data-loader-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Reads a piece of data from storage.
+     */
+    @FunctionalInterface
+    public interface StorageRead<T> {
+        T read() throws DataLoadingException;
+    }
+
+    /**
+     * A piece of data that is being loaded.
+     */
+    public static final class Load<T> {
+        private final CompletableFuture<T> result;
+
+        private Load(CompletableFuture<T> result) {
+            this.result = result;
+        }
+
+        /**
+         * Waits for the data to be loaded and returns it.
+         *
+         * @throws DataLoadingException if loading the data failed.
+         */
+        public T get() throws DataLoadingException {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof DataLoadingException) {
+                    throw (DataLoadingException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -1,13 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.address.account.exception.AccountException;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -15,6 +14,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class CommandBox extends UiPart<Region> {
 
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
@@ -36,17 +36,35 @@ public class CommandBox extends UiPart<Region> {
      * Handles the Enter button pressed event.
      */
     @FXML
-    private void handleCommandEntered() throws AccountException {
+    private void handleCommandEntered() {
         String commandText = commandTextField.getText();
         if (commandText.equals("")) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        commandExecutor.execute(commandText).whenComplete((commandResult, error) -> {
+            // Leave the text alone if the user has started typing another command while this one ran
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows whether commands entered earlier are still being executed.
+     * More commands can be entered in the meantime; they are executed in turn.
+     */
+    public void setBusy(boolean isBusy) {
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
@@ -76,11 +94,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its eventual result, which completes on the JavaFX
+         * application thread, exceptionally if the command failed.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeInBackground(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException, AccountException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 
 }
@@ -1,23 +1,23 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Cursor;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
-import seedu.address.account.exception.AccountException;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.AccountManager;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -38,8 +38,10 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private CommandBox commandBox;
 
     private boolean isFirstTime = true;
+    private int runningCommandCount;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -140,7 +142,8 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        commandBox = new CommandBox(this::executeCommand);
+        commandBox.setBusy(runningCommandCount > 0);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
         if (isFirstTime) {
@@ -203,17 +206,17 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     @FXML
-    private void handleUndo() throws AccountException, CommandException, ParseException {
+    private void handleUndo() {
         executeCommand("undo");
     }
 
     @FXML
-    private void handleRedo() throws AccountException, CommandException, ParseException {
+    private void handleRedo() {
         executeCommand("redo");
     }
 
     @FXML
-    private void handleLogout() throws AccountException, CommandException, ParseException {
+    private void handleLogout() {
         executeCommand("logout");
     }
 
@@ -222,15 +225,21 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command in the background, so the UI stays responsive, and returns its eventual result.
+     * The result is shown, and the returned future completes, on the JavaFX application thread.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#executeInBackground(String)
      */
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        setCommandRunning(true);
+        return logic.executeInBackground(commandText).whenCompleteAsync((commandResult, error) -> {
+            setCommandRunning(false);
+            if (error != null) {
+                logger.info("An error occurred while executing command: " + commandText);
+                resultDisplay.setFeedbackToUser(error.getMessage());
+                return;
+            }
 
-    private CommandResult executeCommand(String commandText) throws AccountException, CommandException, ParseException {
-        CommandResult commandResult = null;
-        try {
-            commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
@@ -250,14 +259,18 @@ public class MainWindow extends UiPart<Stage> {
                 fillInnerParts();
                 resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
             }
-        } catch (AccountException e) {
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        }, Platform::runLater);
+    }
+
+    /**
+     * Keeps count of the commands still being executed, and shows that the app is busy while there are any.
+     */
+    private void setCommandRunning(boolean isStarting) {
+        runningCommandCount += isStarting ? 1 : -1;
+        boolean isBusy = runningCommandCount > 0;
+        commandBox.setBusy(isBusy);
+        if (primaryStage.getScene() != null) {
+            primaryStage.getScene().setCursor(isBusy ? Cursor.WAIT : Cursor.DEFAULT);
         }
-        return commandResult;
     }
 }
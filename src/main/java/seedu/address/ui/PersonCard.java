@@ -1,21 +1,34 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagSet;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be reused to show a different person, which only updates its labels instead of loading it again.
  */
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
 
+    /**
+     * The sorted tag names of each set of tags shown recently, dropped once no person has the set any more.
+     * Keyed by the shared set itself rather than the person, as persons that differ only in their tags are equal.
+     */
+    private static final Map<TagSet, List<String>> sortedTagNamesCache = new WeakHashMap<>();
+
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
      * As a consequence, UI elements' variable names cannot be set to such keywords
@@ -24,7 +37,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -48,16 +62,70 @@ public class PersonCard extends UiPart<Region> {
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code PersonCard} that shows no person until {@link #setPerson(Person, int)} is called.
+     */
+    public PersonCard() {
         super(FXML);
-        this.person = person;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows the given {@code Person} and index on this card, reusing its labels.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
+        if (person == this.person) {
+            return;
+        }
+
+        this.person = person;
         name.setText(person.getName().fullName);
-        phone.setText(person.getPhone().value);
+        phone.setText(person.getPhone().toString());
         //address.setText(person.getAddress().value);
         //email.setText(person.getEmail().value);
         usernameId.setText(person.getId().value);
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        setTagNames(getSortedTagNames(person));
+    }
+
+    /**
+     * Shows {@code tagNames} in the tag labels, reusing the labels already on the card.
+     */
+    private void setTagNames(List<String> tagNames) {
+        List<Node> labels = tags.getChildren();
+        if (labels.size() > tagNames.size()) {
+            labels.subList(tagNames.size(), labels.size()).clear();
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < labels.size()) {
+                ((Label) labels.get(i)).setText(tagNames.get(i));
+            } else {
+                labels.add(new Label(tagNames.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the tags of {@code person}, sorted, as they are shown on the card.
+     */
+    static List<String> getSortedTagNames(Person person) {
+        synchronized (sortedTagNamesCache) {
+            return sortedTagNamesCache.computeIfAbsent(TagSet.of(person.getTags()), tags ->
+                    Collections.unmodifiableList(tags.stream()
+                            .map(tag -> tag.tagName)
+                            .sorted()
+                            .collect(Collectors.toList())));
+        }
     }
 }
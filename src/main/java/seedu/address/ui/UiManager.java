@@ -9,6 +9,7 @@ import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FxUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 
@@ -35,6 +36,7 @@ public class UiManager implements Ui {
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting UI...");
+        FxUtil.setUiStarted();
 
         //Set the application icon.
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
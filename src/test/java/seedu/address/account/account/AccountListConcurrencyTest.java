@@ -0,0 +1,117 @@
+package seedu.address.account.account;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Registers and authenticates accounts from many threads and several processes sharing one accounts file at once.
+ */
+public class AccountListConcurrencyTest {
+    private static final int THREAD_COUNT = 8;
+    private static final int PROCESS_COUNT = 3;
+    private static final int ACCOUNTS_PER_SESSION = 40;
+    private static final String SHARED_USERNAME = "shared";
+    private static final Password PASSWORD_HASH = new Password(AccountList.hashPassword("password"));
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void addAccount_manyThreadsAndProcesses_keepsEveryAccountOnce() throws Exception {
+        String filePath = temporaryFolder.resolve("accounts.txt").toString();
+        new AccountList(filePath).loadFromFile();
+
+        List<Process> processes = new ArrayList<>();
+        for (int i = 0; i < PROCESS_COUNT; i++) {
+            processes.add(new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                    "-cp", System.getProperty("java.class.path"), Session.class.getName(), filePath, "p" + i)
+                    .redirectErrorStream(true).start());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> threadSessions = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String prefix = "t" + i;
+            threadSessions.add(executor.submit(() -> {
+                start.await();
+                return Session.run(new AccountList(filePath), prefix);
+            }));
+        }
+        start.countDown();
+
+        int sharedRegistrationCount = 0;
+        for (Future<Boolean> session : threadSessions) {
+            sharedRegistrationCount += session.get(60, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+        for (Process process : processes) {
+            assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            assertEquals(0, process.exitValue(), output);
+            sharedRegistrationCount += Boolean.parseBoolean(output) ? 1 : 0;
+        }
+
+        assertEquals(1, sharedRegistrationCount);
+        AccountList accountList = new AccountList(filePath);
+        accountList.loadFromFile();
+        int sessionCount = THREAD_COUNT + PROCESS_COUNT;
+        assertEquals(sessionCount * ACCOUNTS_PER_SESSION + 1, accountList.getRecordCount());
+        for (int i = 0; i < ACCOUNTS_PER_SESSION; i++) {
+            for (int thread = 0; thread < THREAD_COUNT; thread++) {
+                assertNotNull(accountList.authenticate(new Username("t" + thread + "u" + i), PASSWORD_HASH));
+            }
+            for (int process = 0; process < PROCESS_COUNT; process++) {
+                assertNotNull(accountList.authenticate(new Username("p" + process + "u" + i), PASSWORD_HASH));
+            }
+        }
+    }
+
+    /**
+     * A session that registers its own accounts, authenticating each one straight after, and tries to register
+     * the account every session tries to register. When run as a process, it prints whether it registered that
+     * account, and exits with a non-zero status if any of its own accounts went missing.
+     */
+    public static class Session {
+        public static void main(String[] args) throws IOException {
+            AccountList accountList = new AccountList(args[0]);
+            accountList.loadFromFile();
+            try {
+                System.out.println(run(accountList, args[1]));
+            } catch (AssertionError e) {
+                System.out.println(e.getMessage());
+                System.exit(1);
+            }
+        }
+
+        static boolean run(AccountList accountList, String prefix) {
+            boolean isSharedRegistered = false;
+            for (int i = 0; i < ACCOUNTS_PER_SESSION; i++) {
+                Username username = new Username(prefix + "u" + i);
+                assertTrue(accountList.addAccount(new Account(username, PASSWORD_HASH)), username + " not added");
+                assertNotNull(accountList.authenticate(username, PASSWORD_HASH), username + " not authenticated");
+                if (i == ACCOUNTS_PER_SESSION / 2) {
+                    isSharedRegistered = accountList.addAccount(new Account(new Username(SHARED_USERNAME),
+                            PASSWORD_HASH));
+                }
+            }
+            return isSharedRegistered;
+        }
+    }
+}
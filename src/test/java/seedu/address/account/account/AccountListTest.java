@@ -1,18 +1,29 @@
 package seedu.address.account.account;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class AccountListTest {
     private static final String TEST_USERNAME = "test";
     private static final String TEST_PASSWORD = "password";
 
+    @TempDir
+    public Path temporaryFolder;
+
     @Test
     public void testAddAccount() {
-        AccountList accountList = new AccountList();
+        AccountList accountList = new AccountList(temporaryFolder.resolve("accounts.txt").toString());
         Account account = new Account(new Username(TEST_USERNAME),
                 new Password(accountList.hashPassword(TEST_PASSWORD)));
         assertTrue(accountList.addAccount(account));
@@ -20,7 +31,7 @@ public class AccountListTest {
 
     @Test
     public void testAuthenticate() {
-        AccountList accountList = new AccountList();
+        AccountList accountList = new AccountList(temporaryFolder.resolve("accounts.txt").toString());
         Account account = new Account(new Username(TEST_USERNAME),
                 new Password(accountList.hashPassword(TEST_PASSWORD)));
         accountList.addAccount(account);
@@ -34,4 +45,119 @@ public class AccountListTest {
         String hashedPassword = accountList.hashPassword(TEST_PASSWORD);
         assertEquals(64, hashedPassword.length());
     }
+
+    @Test
+    public void addAccount_existingFile_appendsOneRecord() throws IOException {
+        Path filePath = temporaryFolder.resolve("accounts.txt");
+        AccountList accountList = new AccountList(filePath.toString());
+        accountList.loadFromFile();
+        accountList.addAccount(createAccount("alice"));
+        accountList.addAccount(createAccount("bobby"));
+
+        assertEquals(2, Files.readAllLines(filePath).size());
+        AccountList reloadedAccountList = new AccountList(filePath.toString());
+        reloadedAccountList.loadFromFile();
+        assertNotNull(reloadedAccountList.authenticate(new Username("alice"), hashedPassword()));
+        assertNotNull(reloadedAccountList.authenticate(new Username("bobby"), hashedPassword()));
+    }
+
+    @Test
+    public void loadFromFile_repeatedAndUnreadableRecords_skipsThem() throws IOException {
+        Path filePath = temporaryFolder.resolve("accounts.txt");
+        Files.writeString(filePath, "username: alice | passwordHash: old\n"
+                + "username: alice | passwordHash: " + AccountList.hashPassword(TEST_PASSWORD) + "\n"
+                + "username: bro\n");
+        AccountList accountList = new AccountList(filePath.toString());
+        accountList.loadFromFile();
+
+        assertEquals(3, accountList.getRecordCount());
+        assertNotNull(accountList.authenticate(new Username("alice"), hashedPassword()));
+        assertNull(accountList.authenticate(new Username("alice"), new Password("old")));
+    }
+
+    @Test
+    public void addAccount_manyStaleRecords_compactsFile() throws IOException {
+        Path filePath = temporaryFolder.resolve("accounts.txt");
+        StringBuilder records = new StringBuilder();
+        for (int i = 0; i <= AccountList.MIN_STALE_RECORDS_TO_COMPACT; i++) {
+            records.append("username: alice | passwordHash: ")
+                    .append(AccountList.hashPassword(TEST_PASSWORD)).append("\n");
+        }
+        Files.writeString(filePath, records);
+        AccountList accountList = new AccountList(filePath.toString());
+        accountList.loadFromFile();
+
+        accountList.addAccount(createAccount("bobby"));
+        assertEquals(2, accountList.getRecordCount());
+        assertEquals(2, Files.readAllLines(filePath).size());
+        assertNotNull(accountList.authenticate(new Username("alice"), hashedPassword()));
+    }
+
+    @Test
+    public void addAccount_existingUsername_returnsFalse() throws IOException {
+        AccountList accountList = new AccountList(temporaryFolder.resolve("accounts.txt").toString());
+        accountList.loadFromFile();
+        assertTrue(accountList.addAccount(createAccount("alice")));
+        assertFalse(accountList.addAccount(createAccount("alice")));
+    }
+
+    @Test
+    public void loadFromFile_manyAccounts_findsEachAccount() throws IOException {
+        Path filePath = temporaryFolder.resolve("accounts.txt");
+        AccountList accountList = new AccountList(filePath.toString());
+        accountList.loadFromFile();
+        int accountCount = 2000;
+        for (int i = 0; i < accountCount; i++) {
+            assertTrue(accountList.addAccount(createAccount("user" + i)));
+        }
+
+        AccountList reloadedAccountList = new AccountList(filePath.toString());
+        reloadedAccountList.loadFromFile();
+        assertEquals(accountCount, reloadedAccountList.getRecordCount());
+        for (int i = 0; i < accountCount; i++) {
+            assertNotNull(reloadedAccountList.authenticate(new Username("user" + i), hashedPassword()));
+        }
+        assertNull(reloadedAccountList.authenticate(new Username("user" + accountCount), hashedPassword()));
+    }
+
+    @Test
+    public void loadFromFile_recordsAppendedSinceIndexed_indexesThem() throws IOException {
+        Path filePath = temporaryFolder.resolve("accounts.txt");
+        AccountList accountList = new AccountList(filePath.toString());
+        accountList.loadFromFile();
+        accountList.addAccount(createAccount("alice"));
+        // Written by another instance of the app that does not keep the index
+        Files.writeString(filePath, "username: alice | passwordHash: new\n"
+                + "username: bobby | passwordHash: " + AccountList.hashPassword(TEST_PASSWORD) + "\n",
+                StandardOpenOption.APPEND);
+
+        AccountList reloadedAccountList = new AccountList(filePath.toString());
+        reloadedAccountList.loadFromFile();
+        assertEquals(3, reloadedAccountList.getRecordCount());
+        assertNotNull(reloadedAccountList.authenticate(new Username("alice"), new Password("new")));
+        assertNull(reloadedAccountList.authenticate(new Username("alice"), hashedPassword()));
+        assertNotNull(reloadedAccountList.authenticate(new Username("bobby"), hashedPassword()));
+    }
+
+    @Test
+    public void loadFromFile_missingIndex_rebuildsIndex() throws IOException {
+        Path filePath = temporaryFolder.resolve("accounts.txt");
+        AccountList accountList = new AccountList(filePath.toString());
+        accountList.loadFromFile();
+        accountList.addAccount(createAccount("alice"));
+        Files.delete(temporaryFolder.resolve("accounts.txt.idx"));
+
+        AccountList reloadedAccountList = new AccountList(filePath.toString());
+        reloadedAccountList.loadFromFile();
+        assertNotNull(reloadedAccountList.authenticate(new Username("alice"), hashedPassword()));
+        assertFalse(reloadedAccountList.addAccount(createAccount("alice")));
+    }
+
+    private static Account createAccount(String username) {
+        return new Account(new Username(username), hashedPassword());
+    }
+
+    private static Password hashedPassword() {
+        return new Password(AccountList.hashPassword(TEST_PASSWORD));
+    }
 }
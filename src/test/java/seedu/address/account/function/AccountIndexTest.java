@@ -0,0 +1,69 @@
+package seedu.address.account.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AccountIndexTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void open_missingOrCorruptIndex_returnsFalse() throws IOException {
+        Path indexPath = temporaryFolder.resolve("accounts.txt.idx");
+        assertFalse(new AccountIndex(indexPath.toString()).open());
+
+        Files.writeString(indexPath, "not an index of accounts");
+        assertFalse(new AccountIndex(indexPath.toString()).open());
+    }
+
+    @Test
+    public void add_manyAccounts_growsAndFindsEachAccount() throws IOException {
+        String indexPath = temporaryFolder.resolve("accounts.txt.idx").toString();
+        AccountIndex index = new AccountIndex(indexPath);
+        index.rebuild(Map.of(), 0, 0);
+        int accountCount = AccountIndex.INITIAL_SLOT_COUNT * 2;
+        for (int i = 0; i < accountCount; i++) {
+            index.add("user" + i, i * 10L, (i + 1) * 10L);
+        }
+
+        AccountIndex reopenedIndex = new AccountIndex(indexPath);
+        assertTrue(reopenedIndex.open());
+        assertEquals(accountCount, reopenedIndex.getAccountCount());
+        assertEquals(accountCount, reopenedIndex.getRecordCount());
+        assertEquals(accountCount * 10L, reopenedIndex.getIndexedLength());
+        for (int i = 0; i < accountCount; i++) {
+            assertTrue(reopenedIndex.findOffsets("user" + i).contains(i * 10L));
+        }
+        assertEquals(List.of(), reopenedIndex.findOffsets("nobody"));
+    }
+
+    @Test
+    public void replace_existingAccount_pointsAtNewRecord() throws IOException {
+        AccountIndex index = new AccountIndex(temporaryFolder.resolve("accounts.txt.idx").toString());
+        Map<String, Long> offsetsByUsername = new HashMap<>();
+        offsetsByUsername.put("alice", 0L);
+        offsetsByUsername.put("bobby", 10L);
+        index.rebuild(offsetsByUsername, 2, 20);
+
+        index.replace("alice", 0, 20, 30);
+        index.skip(40);
+
+        assertEquals(List.of(20L), index.findOffsets("alice"));
+        assertEquals(Set.of(10L, 20L), index.getAllOffsets());
+        assertEquals(2, index.getAccountCount());
+        assertEquals(4, index.getRecordCount());
+        assertEquals(40, index.getIndexedLength());
+    }
+}
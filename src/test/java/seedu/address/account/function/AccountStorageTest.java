@@ -56,4 +56,39 @@ public class AccountStorageTest {
         // Clean up test file
         Files.delete(Path.of(TEST_FILE_PATH));
     }
+
+    @Test
+    public void testAppend() throws IOException {
+        // A last line cut short, as if by a crash while it was being written
+        Files.writeString(Path.of(TEST_FILE_PATH), "username: test | passwordHash: 5f4dcc3b5aa765d61d8327deb882cf99\n"
+                + "username: tor");
+
+        AccountStorage accountStorage = new AccountStorage(TEST_FILE_PATH);
+        accountStorage.appendToFile("username: other | passwordHash: 1234");
+        accountStorage.appendToFile("username: third | passwordHash: 5678");
+
+        List<String> accounts = accountStorage.loadFromFile();
+        assertEquals(List.of("username: test | passwordHash: 5f4dcc3b5aa765d61d8327deb882cf99", "username: tor",
+                "username: other | passwordHash: 1234", "username: third | passwordHash: 5678"), accounts);
+
+        // Clean up test file
+        Files.delete(Path.of(TEST_FILE_PATH));
+    }
+
+    @Test
+    public void testNonAsciiRecord() throws IOException {
+        String account = "username: zo\u00eb | passwordHash: 1234";
+        AccountStorage accountStorage = new AccountStorage(TEST_FILE_PATH);
+        accountStorage.saveToFile(List.of("username: test | passwordHash: 5678"));
+        long offset = accountStorage.appendToFile(account);
+
+        assertEquals(account, accountStorage.readRecordAt(offset));
+        List<String> records = new ArrayList<>();
+        accountStorage.forEachRecord(offset, (recordOffset, record, nextOffset) -> records.add(record));
+        assertEquals(List.of(account), records);
+        assertEquals(List.of("username: test | passwordHash: 5678", account), accountStorage.loadFromFile());
+
+        // Clean up test file
+        Files.delete(Path.of(TEST_FILE_PATH));
+    }
 }
@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class UpdateCoalescerTest {
+
+    private final List<List<String>> appliedBatches = new ArrayList<>();
+    private final List<Runnable> scheduledTasks = new ArrayList<>();
+    private boolean canApplyNow;
+    private final UpdateCoalescer<String> coalescer = new UpdateCoalescer<>(appliedBatches::add,
+            () -> canApplyNow, scheduledTasks::add);
+
+    @Test
+    public void submit_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> coalescer.submit(null));
+    }
+
+    @Test
+    public void submit_canApplyNow_appliesRightAway() {
+        canApplyNow = true;
+        coalescer.submit("a");
+        coalescer.submit("b");
+        assertEquals(List.of(List.of("a"), List.of("b")), appliedBatches);
+        assertEquals(0, scheduledTasks.size());
+    }
+
+    @Test
+    public void submit_burstOfUpdates_appliedTogetherOnce() {
+        coalescer.submit("a");
+        coalescer.submit("b");
+        coalescer.submit("c");
+        assertEquals(List.of(), appliedBatches);
+        assertEquals(1, scheduledTasks.size());
+
+        scheduledTasks.get(0).run();
+        assertEquals(List.of(List.of("a", "b", "c")), appliedBatches);
+
+        // The next update waits for another pulse
+        coalescer.submit("d");
+        assertEquals(2, scheduledTasks.size());
+        scheduledTasks.get(1).run();
+        assertEquals(List.of(List.of("a", "b", "c"), List.of("d")), appliedBatches);
+    }
+
+    @Test
+    public void submit_canApplyNowWithUpdatesWaiting_appliesWaitingUpdatesFirst() {
+        coalescer.submit("a");
+        canApplyNow = true;
+        coalescer.submit("b");
+        assertEquals(List.of(List.of("a", "b")), appliedBatches);
+
+        // The pulse finds nothing left to apply
+        scheduledTasks.get(0).run();
+        assertEquals(1, appliedBatches.size());
+    }
+}
@@ -2,16 +2,25 @@ package seedu.address.logic;
 
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 //import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ID_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,17 +31,21 @@ import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 //import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonTagListStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -42,6 +55,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -50,7 +64,7 @@ public class LogicManagerTest {
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         JsonTagListStorage tagListStorage = new JsonTagListStorage(temporaryFolder.resolve("tagList.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, tagListStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, tagListStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -94,6 +108,65 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void executeInBackground_validCommand_completesWithResult() throws Exception {
+        model.addTag(Tag.of(VALID_TAG_FRIEND));
+        Logic loggedInLogic = new LoggedInLogicManager(model, storage, new ArrayList<>());
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + ID_DESC_AMY + PHONE_DESC_AMY
+                + TAG_DESC_FRIEND;
+        CommandResult result = loggedInLogic.executeInBackground(addCommand).get(5, TimeUnit.SECONDS);
+        loggedInLogic.close();
+
+        Person expectedPerson = new PersonBuilder(AMY).withTags(VALID_TAG_FRIEND).build();
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(expectedPerson)),
+                result.getFeedbackToUser());
+        assertTrue(model.hasPerson(expectedPerson));
+    }
+
+    @Test
+    public void executeInBackground_invalidCommand_completesExceptionally() {
+        Logic loggedInLogic = new LoggedInLogicManager(model, storage, new ArrayList<>());
+        CompletableFuture<CommandResult> commandResult = loggedInLogic.executeInBackground("- 9");
+        assertThrows(ExecutionException.class, () -> commandResult.get(5, TimeUnit.SECONDS));
+        loggedInLogic.close();
+        assertTrue(commandResult.isCompletedExceptionally());
+    }
+
+    @Test
+    public void executeInBackground_commandsBackToBack_runOneAtATimeInSubmissionOrder() throws Exception {
+        int commandCount = 50;
+        List<Integer> personCountsSeen = Collections.synchronizedList(new ArrayList<>());
+        model.addTag(Tag.of(VALID_TAG_FRIEND));
+        Logic loggedInLogic = new LoggedInLogicManager(model, storage, personCountsSeen);
+        List<Person> persons = new ArrayList<>();
+        List<CompletableFuture<CommandResult>> commandResults = new ArrayList<>();
+        for (int i = 0; i < commandCount; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withId("person" + i)
+                    .withPhone(String.valueOf(91000000 + i)).withTags(VALID_TAG_FRIEND).build();
+            persons.add(person);
+            commandResults.add(loggedInLogic.executeInBackground(PersonUtil.getAddCommand(person) + TAG_DESC_FRIEND));
+        }
+        for (CompletableFuture<CommandResult> commandResult : commandResults) {
+            commandResult.get(5, TimeUnit.SECONDS);
+        }
+        loggedInLogic.close();
+
+        // Each command saw exactly the persons added by the commands submitted before it
+        List<Integer> expectedPersonCounts = new ArrayList<>();
+        for (int i = 0; i < commandCount; i++) {
+            expectedPersonCounts.add(i);
+            assertTrue(model.hasPerson(persons.get(i)));
+        }
+        assertEquals(expectedPersonCounts, personCountsSeen);
+    }
+
+    @Test
+    public void executeInBackground_afterClose_completesExceptionally() {
+        logic.close();
+        CompletableFuture<CommandResult> commandResult = logic.executeInBackground("help");
+        assertTrue(commandResult.isCompletedExceptionally());
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -181,4 +254,25 @@ public class LogicManagerTest {
         expectedModel.addPerson(expectedPerson);
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
+
+    /**
+     * A {@code LogicManager} that runs address book commands as if a user were logged in, without saving them,
+     * and records how many persons the model holds when each command starts.
+     */
+    private static class LoggedInLogicManager extends LogicManager {
+        private final Model model;
+        private final List<Integer> personCountsSeen;
+
+        LoggedInLogicManager(Model model, Storage storage, List<Integer> personCountsSeen) {
+            super(model, storage);
+            this.model = model;
+            this.personCountsSeen = personCountsSeen;
+        }
+
+        @Override
+        public CommandResult execute(String commandText) throws CommandException, ParseException {
+            personCountsSeen.add(model.getAddressBook().getPersonList().size());
+            return new AddressBookParser().parseCommand(commandText).execute(model);
+        }
+    }
 }
@@ -0,0 +1,143 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.ChangeRecord;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UndoJournal;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.TagList;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonTagListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+public class UserModelCacheTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void take_modelCached_returnsModelOnce() throws Exception {
+        UserModelCache cache = new UserModelCache();
+        ModelManager model = new ModelManager();
+        Storage storage = createStorage("alice");
+        JournalStub journal = new JournalStub();
+        cache.put("alice", model, storage, journal);
+
+        Optional<UserModelCache.CachedModel> cachedModel = cache.take("alice");
+        assertTrue(cachedModel.isPresent());
+        assertSame(model, cachedModel.get().getModel());
+        assertSame(storage, cachedModel.get().getStorage());
+        assertSame(journal, cachedModel.get().getUndoJournal());
+        assertFalse(journal.isClosed);
+        assertFalse(cache.take("alice").isPresent());
+        assertFalse(cache.take("bob").isPresent());
+    }
+
+    @Test
+    public void take_fileChangedSinceCached_returnsEmptyAndClosesJournal() throws Exception {
+        UserModelCache cache = new UserModelCache();
+        Storage storage = createStorage("alice");
+        storage.saveAddressBook(getTypicalAddressBook());
+        JournalStub journal = new JournalStub();
+        cache.put("alice", new ModelManager(), storage, journal);
+
+        Files.writeString(storage.getAddressBookFilePath(), "{ \"persons\": [] }");
+        assertFalse(cache.take("alice").isPresent());
+        assertTrue(journal.isClosed);
+    }
+
+    @Test
+    public void put_moreThanMaxEntries_evictsLeastRecentlyCached() throws Exception {
+        UserModelCache cache = new UserModelCache(2, Long.MAX_VALUE);
+        JournalStub aliceJournal = new JournalStub();
+        cache.put("alice", new ModelManager(), createStorage("alice"), aliceJournal);
+        cache.put("bob", new ModelManager(), createStorage("bob"), null);
+        cache.put("carl", new ModelManager(), createStorage("carl"), null);
+
+        assertEquals(2, cache.size());
+        assertTrue(aliceJournal.isClosed);
+        assertFalse(cache.take("alice").isPresent());
+        assertTrue(cache.take("bob").isPresent());
+        assertTrue(cache.take("carl").isPresent());
+    }
+
+    @Test
+    public void put_moreThanMaxEstimatedBytes_evictsLeastRecentlyCached() throws Exception {
+        ModelManager largeModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new TagList());
+        UserModelCache cache = new UserModelCache(10, 4000);
+        cache.put("alice", largeModel, createStorage("alice"), null);
+        cache.put("bob", largeModel, createStorage("bob"), null);
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.take("bob").isPresent());
+    }
+
+    @Test
+    public void clear_modelsCached_closesAllJournals() throws Exception {
+        UserModelCache cache = new UserModelCache();
+        JournalStub aliceJournal = new JournalStub();
+        JournalStub bobJournal = new JournalStub();
+        cache.put("alice", new ModelManager(), createStorage("alice"), aliceJournal);
+        cache.put("bob", new ModelManager(), createStorage("bob"), bobJournal);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertTrue(aliceJournal.isClosed);
+        assertTrue(bobJournal.isClosed);
+    }
+
+    private Storage createStorage(String username) throws IOException {
+        return new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve(username + "addressbook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve(username + ".json")),
+                new JsonTagListStorage(temporaryFolder.resolve("taglist.json")));
+    }
+
+    /**
+     * An {@code UndoJournal} that records whether it was closed.
+     */
+    private static class JournalStub implements UndoJournal {
+        private boolean isClosed;
+
+        @Override
+        public void appendChange(ChangeRecord change) {
+        }
+
+        @Override
+        public void appendUndo() {
+        }
+
+        @Override
+        public void appendRedo() {
+        }
+
+        @Override
+        public History readHistory() {
+            return new History(List.of(), 0);
+        }
+
+        @Override
+        public void clear() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -10,6 +10,8 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 // import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +25,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadAndWriteUserPrefs;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Id;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagList;
@@ -108,6 +111,11 @@ public class AddCommandTest {
         public void deleteTag(Tag tag) {
         }
 
+        @Override
+        public List<Person> getPersonsWithTag(Tag tag) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public String listTags() {
             return null;
@@ -174,29 +182,59 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> getFilteredPersonById(Id id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void beginTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isInTransaction() {
+            return false;
+        }
+
         @Override
         public void addExecutedCommand(Command command) {
             return;
         }
 
         @Override
-        public void undoCommand() {
-            return;
+        public boolean undoCommand() {
+            return true;
         }
 
         @Override
-        public void redoCommand() {
-            return;
+        public boolean redoCommand() {
+            return true;
         }
 
         @Override
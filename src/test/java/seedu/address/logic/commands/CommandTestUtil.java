@@ -144,7 +144,7 @@ public class CommandTestUtil {
      */
     public static void addTwoPeople(Model model) {
         Set<Tag> testTag = new HashSet<>();
-        testTag.add(new Tag("test"));
+        testTag.add(Tag.of("test"));
 
         try {
             Person firstPerson = new Person(new Name("test"), new Id("1234"), new Phone("12345678"), testTag);
@@ -58,6 +58,15 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, expectedMessage);
     }
 
+    @Test
+    public void execute_idNotInFilteredList_failure() {
+        showNoPerson(model);
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_ID_NOT_FOUND, ID_FIRST_PERSON);
+        DeleteCommand deleteCommand = new DeleteCommand(ID_FIRST_PERSON);
+        assertCommandFailure(deleteCommand, model, expectedMessage);
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(ID_FIRST_PERSON);
@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagList;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code DeleteTagCommand}.
+ */
+public class DeleteTagCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        TagList tagList = new TagList();
+        tagList.setTags(List.of(Tag.of("owesMoney"), Tag.of("unused")));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), tagList);
+    }
+
+    @Test
+    public void execute_tagOfPersonHiddenByFilter_throwsCommandException() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        assertFalse(model.getFilteredPersonList().contains(BENSON));
+
+        Tag owesMoney = Tag.of("owesMoney");
+        assertCommandFailure(new DeleteTagCommand(owesMoney), model, BENSON.getName() + ", "
+                + String.format(DeleteTagCommand.MESSAGE_PERSON_CONTAIN_TAG, owesMoney));
+    }
+
+    @Test
+    public void execute_unusedTag_success() {
+        Tag unused = Tag.of("unused");
+        TagList expectedTagList = new TagList();
+        expectedTagList.setTags(List.of(Tag.of("owesMoney")));
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), expectedTagList);
+
+        assertCommandSuccess(new DeleteTagCommand(unused), model,
+                String.format(DeleteTagCommand.MESSAGE_SUCCESS, unused), expectedModel);
+        assertFalse(model.hasTag(unused));
+    }
+}
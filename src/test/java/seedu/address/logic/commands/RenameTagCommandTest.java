@@ -0,0 +1,165 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_TAG_NOT_IN_TAG_LIST;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagList;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code RenameTagCommand} and {@code MergeTagCommand}.
+ */
+public class RenameTagCommandTest {
+
+    private static final Tag FRIENDS = Tag.of("friends");
+    private static final Tag OWES_MONEY = Tag.of("owesMoney");
+    private static final Tag PALS = Tag.of("pals");
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        TagList tagList = new TagList();
+        tagList.setTags(List.of(FRIENDS, OWES_MONEY));
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), tagList);
+    }
+
+    @Test
+    public void execute_rename_retagsEveryPersonWithTag() throws Exception {
+        CommandResult result = new RenameTagCommand(FRIENDS, PALS).execute(model);
+
+        assertEquals(String.format(RenameTagCommand.MESSAGE_SUCCESS, FRIENDS, PALS, 3), result.getFeedbackToUser());
+        assertEquals(List.of(OWES_MONEY, PALS), model.getTagList().getTagList());
+        assertEquals(List.of(), model.getPersonsWithTag(FRIENDS));
+        assertEquals(List.of(retag(ALICE, "pals"), retag(BENSON, "owesMoney", "pals"), retag(DANIEL, "pals")),
+                model.getPersonsWithTag(PALS));
+    }
+
+    @Test
+    public void execute_rename_undoneAsOneCommand() throws Exception {
+        new RenameTagCommand(FRIENDS, PALS).execute(model);
+
+        assertTrue(model.undoCommand());
+        assertEquals(List.of(ALICE, BENSON, DANIEL), model.getPersonsWithTag(FRIENDS));
+        assertFalse(model.canUndoCommand());
+
+        assertTrue(model.redoCommand());
+        assertEquals(3, model.getPersonsWithTag(PALS).size());
+    }
+
+    @Test
+    public void execute_rename_undoAndRedoRestoreTagList() throws Exception {
+        new RenameTagCommand(FRIENDS, PALS).execute(model);
+
+        assertTrue(model.undoCommand());
+        assertTrue(model.hasTag(FRIENDS));
+        assertFalse(model.hasTag(PALS));
+        assertEquals(List.of(OWES_MONEY, FRIENDS), model.getTagList().getTagList());
+        assertEquals(String.format(RenameTagCommand.MESSAGE_SUCCESS, FRIENDS, PALS, 3),
+                new RenameTagCommand(FRIENDS, PALS).execute(model).getFeedbackToUser());
+
+        assertTrue(model.undoCommand());
+        assertTrue(model.redoCommand());
+        assertEquals(List.of(OWES_MONEY, PALS), model.getTagList().getTagList());
+        assertEquals(3, model.getPersonsWithTag(PALS).size());
+    }
+
+    @Test
+    public void execute_renameUnusedTag_undoneAsOneCommand() throws Exception {
+        model.addTag(PALS);
+        Tag buddies = Tag.of("buddies");
+        new RenameTagCommand(PALS, buddies).execute(model);
+        assertEquals(List.of(FRIENDS, OWES_MONEY, buddies), model.getTagList().getTagList());
+
+        assertTrue(model.undoCommand());
+        assertEquals(List.of(FRIENDS, OWES_MONEY, PALS), model.getTagList().getTagList());
+    }
+
+    @Test
+    public void execute_merge_undoAndRedoRestoreTagList() throws Exception {
+        new MergeTagCommand(OWES_MONEY, FRIENDS).execute(model);
+
+        assertTrue(model.undoCommand());
+        assertEquals(List.of(FRIENDS, OWES_MONEY), model.getTagList().getTagList());
+        assertEquals(List.of(BENSON), model.getPersonsWithTag(OWES_MONEY));
+
+        assertTrue(model.redoCommand());
+        assertEquals(List.of(FRIENDS), model.getTagList().getTagList());
+        assertEquals(List.of(), model.getPersonsWithTag(OWES_MONEY));
+    }
+
+    @Test
+    public void execute_renameToExistingTag_throwsCommandException() {
+        assertCommandFailure(new RenameTagCommand(FRIENDS, OWES_MONEY), model,
+                String.format(RenameTagCommand.MESSAGE_DUPLICATE_TAG, OWES_MONEY));
+    }
+
+    @Test
+    public void execute_tagNotInTagList_throwsCommandException() {
+        assertCommandFailure(new RenameTagCommand(PALS, FRIENDS), model,
+                String.format(MESSAGE_TAG_NOT_IN_TAG_LIST, PALS));
+        assertCommandFailure(new MergeTagCommand(FRIENDS, PALS), model,
+                String.format(MESSAGE_TAG_NOT_IN_TAG_LIST, PALS));
+    }
+
+    @Test
+    public void execute_merge_retagsEveryPersonWithTag() throws Exception {
+        CommandResult result = new MergeTagCommand(OWES_MONEY, FRIENDS).execute(model);
+
+        assertEquals(String.format(MergeTagCommand.MESSAGE_SUCCESS, OWES_MONEY, FRIENDS, 1),
+                result.getFeedbackToUser());
+        assertEquals(List.of(FRIENDS), model.getTagList().getTagList());
+        assertEquals(List.of(ALICE, retag(BENSON, "friends"), DANIEL), model.getPersonsWithTag(FRIENDS));
+    }
+
+    @Test
+    public void execute_renameManyPersons_retagsAllOfThem() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withId("person" + i).withTags("friends")
+                    .build());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        model.setAddressBook(addressBook);
+
+        new RenameTagCommand(FRIENDS, PALS).execute(model);
+
+        assertEquals(10000, model.getPersonsWithTag(PALS).size());
+        assertTrue(model.undoCommand());
+        assertEquals(10000, model.getPersonsWithTag(FRIENDS).size());
+    }
+
+    @Test
+    public void equals() {
+        RenameTagCommand renameCommand = new RenameTagCommand(FRIENDS, PALS);
+        assertEquals(renameCommand, new RenameTagCommand(FRIENDS, PALS));
+        assertNotEquals(renameCommand, new RenameTagCommand(PALS, FRIENDS));
+        assertNotEquals(renameCommand, new MergeTagCommand(FRIENDS, PALS));
+        assertNotEquals(renameCommand, null);
+    }
+
+    private static Person retag(Person person, String... tags) {
+        return new PersonBuilder(person).withTags(tags).build();
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.MergeTagCommand;
+import seedu.address.logic.commands.RenameTagCommand;
+import seedu.address.model.tag.Tag;
+
+public class RenameTagCommandParserTest {
+
+    private final RenameTagCommandParser parser = new RenameTagCommandParser();
+
+    @Test
+    public void parse_twoTags_returnsRenameTagCommand() {
+        assertParseSuccess(parser, " HR   PeopleOps ", new RenameTagCommand(Tag.of("HR"), Tag.of("PeopleOps")));
+        assertParseSuccess(new MergeTagCommandParser(), " Recruiting HR",
+                new MergeTagCommand(Tag.of("Recruiting"), Tag.of("HR")));
+    }
+
+    @Test
+    public void parse_wrongNumberOfTags_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenameTagCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " HR", expectedMessage);
+        assertParseFailure(parser, " HR IT RnD", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " HR R&D", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
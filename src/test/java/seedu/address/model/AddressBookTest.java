@@ -54,6 +54,18 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withSnapshot_restoresData() {
+        AddressBook expectedAddressBook = getTypicalAddressBook();
+        addressBook.resetData(expectedAddressBook);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+        addressBook.resetData(new AddressBook());
+
+        assertEquals(expectedAddressBook.getPersonList(), snapshot.getPersonList());
+        addressBook.resetData(snapshot);
+        assertEquals(expectedAddressBook, addressBook);
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
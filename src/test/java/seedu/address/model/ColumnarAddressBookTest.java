@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class ColumnarAddressBookTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook(addressBook);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ColumnarAddressBook(null));
+    }
+
+    @Test
+    public void getPersonList_typicalAddressBook_sameAsAddressBook() {
+        List<Person> persons = addressBook.getPersonList();
+        assertEquals(persons, columnarAddressBook.getPersonList());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i).getTags(), columnarAddressBook.getPerson(i).getTags());
+        }
+    }
+
+    @Test
+    public void getPerson_fieldsOutsideAscii_roundTrips() {
+        Person person = new PersonBuilder().withId("\u00e9mile\u2713").withTags("friends", "colleagues").build();
+        AddressBook source = new AddressBook();
+        source.addPerson(person);
+
+        Person columnarPerson = new ColumnarAddressBook(source).getPerson(0);
+
+        assertEquals(person, columnarPerson);
+        assertEquals(person.getTags(), columnarPerson.getTags());
+        assertThrows(IndexOutOfBoundsException.class, () -> new ColumnarAddressBook(source).getPerson(1));
+    }
+
+    @Test
+    public void findPersonsWithNameContainingAny_sameAsPredicate() {
+        assertFound(new NameContainsKeywordsPredicate(List.of("meier")),
+                columnarAddressBook.findPersonsWithNameContainingAny(List.of("meier")));
+        assertFound(new NameContainsKeywordsPredicate(List.of("KURZ", "ell", "\u00e9")),
+                columnarAddressBook.findPersonsWithNameContainingAny(List.of("KURZ", "ell", "\u00e9")));
+        assertFound(new NameContainsKeywordsPredicate(List.of("nobody")),
+                columnarAddressBook.findPersonsWithNameContainingAny(List.of("nobody")));
+    }
+
+    @Test
+    public void findPersonsWithTagContainingAny_sameAsPredicate() {
+        assertFound(new TagContainsKeywordsPredicate(List.of("FRIEND")),
+                columnarAddressBook.findPersonsWithTagContainingAny(List.of("FRIEND")));
+        assertFound(new TagContainsKeywordsPredicate(List.of("money", "nothing")),
+                columnarAddressBook.findPersonsWithTagContainingAny(List.of("money", "nothing")));
+    }
+
+    @Test
+    public void findPersonsWithTag_sameAsPersonsWithTag() {
+        Tag friends = Tag.of("friends");
+        assertFound(person -> person.getTags().contains(friends), columnarAddressBook.findPersonsWithTag(friends));
+        assertArrayEquals(new int[0], columnarAddressBook.findPersonsWithTag(Tag.of("unusedByAnyPerson")));
+    }
+
+    @Test
+    public void emptyAddressBook_hasNoPersons() {
+        ColumnarAddressBook empty = new ColumnarAddressBook(new AddressBook());
+        assertEquals(0, empty.size());
+        assertEquals(List.of(), empty.getPersonList());
+        assertArrayEquals(new int[0], empty.findPersonsWithTag(Tag.of("friends")));
+    }
+
+    @Test
+    public void snapshot_returnsSelf() {
+        assertSame(columnarAddressBook, columnarAddressBook.snapshot());
+    }
+
+    private void assertFound(Predicate<Person> predicate, int[] foundIndexes) {
+        List<Person> expectedPersons = addressBook.getPersonList().stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+        assertEquals(expectedPersons, columnarAddressBook.getPersons(foundIndexes));
+    }
+}
@@ -0,0 +1,250 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.TagList;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
+
+public class CommandListTest {
+
+    @Test
+    public void constructor_invalidBounds_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CommandList(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new CommandList(1, -1));
+    }
+
+    @Test
+    public void addCommand_moreThanMaxCommands_evictsOldestCommands() {
+        CommandList commandList = new CommandList(3, Long.MAX_VALUE);
+        for (int i = 0; i < 5; i++) {
+            commandList.addCommand(new AddCommand(ALICE));
+        }
+        assertEquals(3, commandList.getHistorySize());
+        assertEquals(2, commandList.getEvictedCount());
+        assertTrue(commandList.canUndo());
+        assertFalse(commandList.canRedo());
+    }
+
+    @Test
+    public void addCommand_exceedsMaxBytes_keepsOnlyNewestCommand() {
+        CommandList commandList = new CommandList(10, 1);
+        commandList.addCommand(new AddCommand(ALICE));
+        commandList.addCommand(new AddCommand(BENSON));
+        assertEquals(1, commandList.getHistorySize());
+        assertTrue(commandList.getEstimatedHistoryBytes() > 1);
+    }
+
+    @Test
+    public void addCommand_clearOfLargeAddressBook_evictsEarlierCommands() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new TagList());
+        ClearCommand clearCommand = new ClearCommand();
+        clearCommand.execute(model);
+
+        CommandList commandList = new CommandList(10, 2000);
+        commandList.addCommand(new AddCommand(ALICE));
+        long bytesBeforeClear = commandList.getEstimatedHistoryBytes();
+        commandList.addCommand(clearCommand);
+        assertEquals(1, commandList.getHistorySize());
+        assertTrue(commandList.getEstimatedHistoryBytes() > bytesBeforeClear);
+    }
+
+    @Test
+    public void addCommand_afterUndo_releasesUndoneCommands() {
+        ModelManager model = new ModelManager();
+        CommandList commandList = new CommandList(10, Long.MAX_VALUE);
+        commandList.linkToModel(model);
+        model.addPerson(ALICE);
+        commandList.addCommand(new AddCommand(ALICE));
+        long bytesOfOneCommand = commandList.getEstimatedHistoryBytes();
+        commandList.undo();
+
+        commandList.addCommand(new AddCommand(ALICE));
+        assertEquals(1, commandList.getHistorySize());
+        assertEquals(bytesOfOneCommand, commandList.getEstimatedHistoryBytes());
+    }
+
+    @Test
+    public void addCommand_millionCommands_historyStaysBounded() {
+        int maxCommands = 100;
+        long maxBytes = 16 * 1024;
+        int commandCount = 1_000_000;
+        CommandList commandList = new CommandList(maxCommands, maxBytes);
+        for (int i = 0; i < commandCount; i++) {
+            commandList.addCommand(new AddCommand(i % 2 == 0 ? ALICE : BENSON));
+            assertTrue(commandList.getHistorySize() <= maxCommands);
+            assertTrue(commandList.getEstimatedHistoryBytes() <= maxBytes);
+        }
+        assertEquals(commandCount, commandList.getHistorySize() + commandList.getEvictedCount());
+    }
+
+    @Test
+    public void undoAndRedo_edit_replacesPersonInPlaceWithOneChange() throws CommandException {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new TagList());
+        EditCommand editCommand = new EditCommand(CARL.getId(),
+                new EditPersonDescriptorBuilder().withPhone("99999999").build());
+        editCommand.execute(model);
+        Person editedCarl = editCommand.getEditedPerson();
+        model.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson", "Carl")));
+        List<Person> personsBeforeUndo = new ArrayList<>(model.getAddressBook().getPersonList());
+
+        int[] changeCount = {0};
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        model.undoCommand();
+        assertEquals(1, changeCount[0]);
+        assertEquals(personsBeforeUndo.indexOf(editedCarl), model.getAddressBook().getPersonList().indexOf(CARL));
+        assertEquals(Arrays.asList(BENSON, CARL), model.getFilteredPersonList());
+
+        model.redoCommand();
+        assertEquals(2, changeCount[0]);
+        assertEquals(personsBeforeUndo, model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void linkToJournal_journalledHistory_readOnlyWhenUndoIsNeeded() {
+        ModelManager model = new ModelManager();
+        model.addPerson(ALICE);
+        JournalStub journal = new JournalStub(Arrays.asList(ChangeRecord.ofAdd(ALICE)), 1);
+        CommandList commandList = new CommandList();
+        commandList.linkToModel(model);
+        commandList.linkToJournal(journal);
+
+        model.addPerson(BENSON);
+        commandList.addCommand(new AddCommand(BENSON));
+        assertEquals(0, journal.readCount);
+
+        assertTrue(commandList.canUndo());
+        assertEquals(1, journal.readCount);
+        assertTrue(commandList.undo());
+        assertTrue(commandList.undo());
+        assertFalse(commandList.canUndo());
+        assertEquals(new AddressBook(), model.getAddressBook());
+        assertEquals(Arrays.asList("change", "undo", "undo"), journal.appended);
+    }
+
+    @Test
+    public void undo_journalledHistoryDoesNotMatchAddressBook_discardsHistory() {
+        JournalStub journal = new JournalStub(Arrays.asList(ChangeRecord.ofAdd(ALICE)), 1);
+        CommandList commandList = new CommandList();
+        commandList.linkToModel(new ModelManager());
+        commandList.linkToJournal(journal);
+
+        assertTrue(commandList.canUndo());
+        assertFalse(commandList.undo());
+        assertFalse(commandList.canUndo());
+        assertEquals(0, commandList.getHistorySize());
+        assertEquals(Arrays.asList("clear"), journal.appended);
+    }
+
+    @Test
+    public void undoAndRedo_group_appliesWholeGroupInOneChange() {
+        ModelManager model = new ModelManager();
+        model.addPerson(CARL);
+        CommandList commandList = new CommandList();
+        commandList.linkToModel(model);
+        model.addPerson(ALICE);
+        model.deletePerson(CARL);
+        commandList.addChange(ChangeRecord.ofGroup(Arrays.asList(ChangeRecord.ofAdd(ALICE),
+                ChangeRecord.ofDelete(CARL))));
+
+        int[] changeCount = {0};
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        assertTrue(commandList.undo());
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(CARL), model.getAddressBook().getPersonList());
+        assertFalse(commandList.canUndo());
+
+        assertTrue(commandList.redo());
+        assertEquals(2, changeCount[0]);
+        assertEquals(Arrays.asList(ALICE), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void undo_groupDoesNotMatchAddressBook_rollsBackAndDiscardsHistory() {
+        ModelManager model = new ModelManager();
+        model.addPerson(BENSON);
+        CommandList commandList = new CommandList();
+        commandList.linkToModel(model);
+        commandList.addChange(ChangeRecord.ofGroup(Arrays.asList(ChangeRecord.ofAdd(ALICE),
+                ChangeRecord.ofAdd(BENSON))));
+
+        assertFalse(commandList.undo());
+        assertEquals(Arrays.asList(BENSON), model.getAddressBook().getPersonList());
+        assertFalse(model.isInTransaction());
+        assertEquals(0, commandList.getHistorySize());
+    }
+
+    /**
+     * An {@code UndoJournal} that returns a fixed history and records what is appended to it.
+     */
+    private static class JournalStub implements UndoJournal {
+        private final List<ChangeRecord> changes;
+        private final int appliedCount;
+        private final List<String> appended = new ArrayList<>();
+        private int readCount;
+
+        JournalStub(List<ChangeRecord> changes, int appliedCount) {
+            this.changes = changes;
+            this.appliedCount = appliedCount;
+        }
+
+        @Override
+        public void appendChange(ChangeRecord change) {
+            appended.add("change");
+        }
+
+        @Override
+        public void appendUndo() {
+            appended.add("undo");
+        }
+
+        @Override
+        public void appendRedo() {
+            appended.add("redo");
+        }
+
+        @Override
+        public History readHistory() throws DataLoadingException {
+            readCount++;
+            // Like a real journal, the history includes what was appended in this session
+            List<ChangeRecord> history = new ArrayList<>(changes);
+            for (String entry : appended) {
+                if (entry.equals("change")) {
+                    history.add(ChangeRecord.ofAdd(BENSON));
+                }
+            }
+            return new History(history, appliedCount + history.size() - changes.size());
+        }
+
+        @Override
+        public void clear() {
+            appended.add("clear");
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.KEYWORD_MATCHING_MEIER;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredPersonListTest {
+
+    private final Predicate<Person> meierPredicate = new NameContainsKeywordsPredicate(
+            List.of(KEYWORD_MATCHING_MEIER));
+    private final UniquePersonList source = new UniquePersonList();
+
+    @Test
+    public void constructor_showAll_passesSourceThrough() {
+        source.setPersons(getTypicalPersons());
+        FilteredPersonList filteredPersons = new FilteredPersonList(source.asUnmodifiableObservableList(),
+                PREDICATE_SHOW_ALL_PERSONS);
+        List<String> changes = recordChanges(filteredPersons);
+
+        source.remove(BENSON);
+        assertEquals(source.asUnmodifiableObservableList(), filteredPersons);
+        assertEquals(List.of("added 1 to 1, removed [" + BENSON + "]"), changes);
+    }
+
+    @Test
+    public void constructor_predicate_showsMatchingPersonsOnly() {
+        source.setPersons(getTypicalPersons());
+        FilteredPersonList filteredPersons = new FilteredPersonList(source.asUnmodifiableObservableList(),
+                meierPredicate);
+        assertEquals(List.of(BENSON, DANIEL), filteredPersons);
+    }
+
+    @Test
+    public void sourceChanged_predicate_showsOnlyMatchingChanges() {
+        source.setPersons(getTypicalPersons());
+        FilteredPersonList filteredPersons = new FilteredPersonList(source.asUnmodifiableObservableList(),
+                meierPredicate);
+        List<String> changes = recordChanges(filteredPersons);
+
+        source.remove(ALICE);
+        source.remove(DANIEL);
+        assertEquals(List.of("added 1 to 1, removed [" + DANIEL + "]"), changes);
+        assertEquals(List.of(BENSON), filteredPersons);
+    }
+
+    @Test
+    public void setPredicate_newPredicate_showsResultInOneChange() {
+        source.setPersons(getTypicalPersons());
+        FilteredPersonList filteredPersons = new FilteredPersonList(source.asUnmodifiableObservableList(),
+                PREDICATE_SHOW_ALL_PERSONS);
+        List<String> changes = recordChanges(filteredPersons);
+
+        filteredPersons.setPredicate(meierPredicate);
+        assertEquals(List.of("added 0 to 0, removed " + getTypicalPersons(), "added 0 to 2, removed []"), changes);
+        assertEquals(List.of(BENSON, DANIEL), filteredPersons);
+    }
+
+    @Test
+    public void sourceChanged_randomChanges_matchesFilteredSource() {
+        FilteredPersonList filteredPersons = new FilteredPersonList(source.asUnmodifiableObservableList(),
+                meierPredicate);
+        Random random = new Random(7);
+        for (int i = 0; i < 2000; i++) {
+            String name = (random.nextBoolean() ? "Meier " : "Muller ") + random.nextInt(200);
+            Person person = new PersonBuilder().withName(name).withId("A" + random.nextInt(100)).build();
+            Person existing = source.getPersonById(person.getId()).orElse(null);
+            if (existing == null) {
+                source.add(person);
+            } else if (random.nextBoolean()) {
+                source.remove(existing);
+            } else {
+                source.setPerson(existing, person);
+            }
+            assertEquals(source.asUnmodifiableObservableList().stream().filter(meierPredicate)
+                    .collect(Collectors.toList()), filteredPersons);
+        }
+    }
+
+    /**
+     * Returns a list to which each part of each change to {@code list} is added as it is made.
+     */
+    private List<String> recordChanges(FilteredPersonList list) {
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add("added " + change.getFrom() + " to " + change.getTo()
+                        + ", removed " + change.getRemoved());
+            }
+        });
+        return changes;
+    }
+}
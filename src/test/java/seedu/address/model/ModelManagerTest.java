@@ -7,17 +7,26 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.model.tag.TagList;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -97,6 +106,70 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void commitTransaction_severalCommands_oneUpdateAndOneUndo() throws CommandException {
+        modelManager.setUserPrefsIsSample(modelManager.getUserPrefs(), false);
+        modelManager.addPerson(BENSON);
+        int[] changeCount = {0};
+        modelManager.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        modelManager.beginTransaction();
+        new AddCommand(CARL).execute(modelManager);
+        new DeleteCommand(BENSON.getId()).execute(modelManager);
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+        assertEquals(Optional.of(CARL), modelManager.getFilteredPersonById(CARL.getId()));
+        assertFalse(modelManager.canUndoCommand());
+        assertEquals(0, changeCount[0]);
+
+        modelManager.commitTransaction();
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(CARL), modelManager.getFilteredPersonList());
+
+        assertTrue(modelManager.undoCommand());
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.canUndoCommand());
+    }
+
+    @Test
+    public void rollbackTransaction_restoresPersonsTagsAndFilter() {
+        modelManager.addPerson(BENSON);
+        Tag tag = Tag.of("friends");
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.addTag(tag);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Alice")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.rollbackTransaction();
+        assertFalse(modelManager.isInTransaction());
+        assertFalse(modelManager.hasPerson(ALICE));
+        assertFalse(modelManager.hasTag(tag));
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.canUndoCommand());
+    }
+
+    @Test
+    public void listTags_personsChanged_updatesUsageCounts() {
+        Tag tag = Tag.of("friends");
+        modelManager.addTag(tag);
+        assertEquals("friends (0)\n", modelManager.listTags());
+
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("friends").build();
+        modelManager.addPerson(taggedAlice);
+        assertEquals("friends (1)\n", modelManager.listTags());
+
+        modelManager.deletePerson(taggedAlice);
+        assertEquals("friends (0)\n", modelManager.listTags());
+    }
+
+    @Test
+    public void beginTransaction_alreadyInTransaction_throwsIllegalStateException() {
+        modelManager.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> modelManager.beginTransaction());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Id(null));
+    }
+
+    @Test
+    public void constructor_invalidId_throwsIllegalArgumentException() {
+        String invalidId = "";
+        assertThrows(IllegalArgumentException.class, () -> new Id(invalidId));
+    }
+
+    @Test
+    public void isValidId() {
+        // null id
+        assertThrows(NullPointerException.class, () -> Id.isValidId(null));
+
+        // invalid ids
+        assertFalse(Id.isValidId("")); // empty string
+        assertFalse(Id.isValidId(" ")); // spaces only
+        assertFalse(Id.isValidId("john doe")); // whitespace within id
+
+        // valid ids
+        assertTrue(Id.isValidId("johndoe41")); // alphanumeric characters
+        assertTrue(Id.isValidId("john.doe_41")); // special characters
+    }
+
+    @Test
+    public void equals() {
+        Id id = new Id("johndoe41");
+
+        // same values -> returns true
+        assertTrue(id.equals(new Id("johndoe41")));
+
+        // same values ignoring case and surrounding whitespace -> returns true
+        assertTrue(id.equals(new Id("JohnDoe41")));
+        assertTrue(id.equals(new Id("johndoe41 ")));
+
+        // same object -> returns true
+        assertTrue(id.equals(id));
+
+        // null -> returns false
+        assertFalse(id.equals(null));
+
+        // different types -> returns false
+        assertFalse(id.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(id.equals(new Id("janedoe41")));
+    }
+
+    @Test
+    public void hashCode_equalIds_sameHashCode() {
+        assertEquals(new Id("johndoe41").hashCode(), new Id("JOHNDOE41").hashCode());
+        assertEquals(new Id("johndoe41").hashCode(), new Id("johndoe41 ").hashCode());
+    }
+}
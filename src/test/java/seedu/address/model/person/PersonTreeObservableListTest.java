@@ -0,0 +1,92 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTreeObservableListTest {
+
+    private final Comparator<Person> comparator = new PersonNameComparator().thenComparing(Person::getId);
+
+    @Test
+    public void get_largeTree_readsOnlyAWindowAroundTheIndex() {
+        List<Person> persons = createPersons(1000);
+        PersonTreeObservableList list = new PersonTreeObservableList(PersonTree.fromSorted(persons, comparator));
+
+        assertEquals(1000, list.size());
+        assertTrue(list.getWindow().isEmpty());
+        assertEquals(persons.get(500), list.get(500));
+        assertEquals(persons.subList(500 - PersonTreeObservableList.PREFETCH_MARGIN,
+                500 - PersonTreeObservableList.PREFETCH_MARGIN + PersonTreeObservableList.WINDOW_SIZE),
+                list.getWindow());
+    }
+
+    @Test
+    public void get_everyIndex_matchesTree() {
+        List<Person> persons = createPersons(1000);
+        PersonTreeObservableList list = new PersonTreeObservableList(PersonTree.fromSorted(persons, comparator));
+
+        // Scrolling down and back up again
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals(persons.get(i), list.get(i));
+        }
+        for (int i = persons.size() - 1; i >= 0; i--) {
+            assertEquals(persons.get(i), list.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(persons.size()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    public void showAdded_newTree_replacesWindow() {
+        List<Person> persons = createPersons(10);
+        PersonTree tree = PersonTree.fromSorted(persons.subList(1, 10), comparator);
+        PersonTreeObservableList list = new PersonTreeObservableList(tree);
+        list.get(0);
+
+        list.showAdded(tree.with(persons.get(0)), 0);
+        assertEquals(persons, list);
+    }
+
+    @Test
+    public void showTogether_severalChanges_shownInOneChange() {
+        List<Person> persons = createPersons(3);
+        PersonTree tree = PersonTree.fromSorted(persons.subList(1, 2), comparator);
+        PersonTreeObservableList list = new PersonTreeObservableList(tree);
+        List<Integer> changeSizes = new ArrayList<>();
+        list.addListener((ListChangeListener<Person>) change -> {
+            int size = 0;
+            while (change.next()) {
+                size++;
+            }
+            changeSizes.add(size);
+        });
+
+        PersonTree withFirst = tree.with(persons.get(0));
+        PersonTree withAll = withFirst.with(persons.get(2));
+        list.showTogether(() -> {
+            list.showAdded(withFirst, 0);
+            list.showAdded(withAll, 2);
+        });
+        assertEquals(List.of(2), changeSizes);
+        assertEquals(persons, list);
+    }
+
+    private List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + (10000 + i)).withId("A" + i).build());
+        }
+        return persons;
+    }
+}
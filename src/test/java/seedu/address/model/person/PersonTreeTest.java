@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTreeTest {
+
+    private final Comparator<Person> comparator = new PersonNameComparator().thenComparing(Person::getId);
+    private final PersonTree emptyTree = PersonTree.empty(comparator);
+
+    @Test
+    public void with_personsOutOfOrder_keepsPersonsSorted() {
+        PersonTree tree = emptyTree.with(CARL).with(ALICE).with(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), tree.asList());
+        assertEquals(1, tree.rankOf(BENSON));
+        assertSame(CARL, tree.get(2));
+    }
+
+    @Test
+    public void with_samePerson_replacesPerson() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        PersonTree tree = emptyTree.with(ALICE).with(editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), tree.asList());
+    }
+
+    @Test
+    public void without_personNotInTree_returnsSameTree() {
+        PersonTree tree = emptyTree.with(ALICE);
+        assertSame(tree, tree.without(BENSON));
+    }
+
+    @Test
+    public void withAndWithout_olderVersionsUnchanged() {
+        PersonTree original = emptyTree.with(ALICE).with(BENSON);
+        PersonTree changed = original.without(ALICE).with(CARL);
+        assertEquals(Arrays.asList(ALICE, BENSON), original.asList());
+        assertEquals(Arrays.asList(BENSON, CARL), changed.asList());
+        assertNull(changed.find(ALICE));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> emptyTree.with(ALICE).get(1));
+    }
+
+    @Test
+    public void iterator_fromEveryIndex_visitsRemainingPersonsInOrder() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new PersonBuilder().withName("Person " + (1000 + i)).withId("A" + i).build());
+        }
+        PersonTree tree = PersonTree.fromSorted(persons, comparator);
+        for (int from = 0; from <= persons.size(); from++) {
+            List<Person> visited = new ArrayList<>();
+            tree.iterator(from).forEachRemaining(visited::add);
+            assertEquals(persons.subList(from, persons.size()), visited);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.iterator(persons.size() + 1));
+    }
+
+    @Test
+    public void randomOperations_matchSortedList() {
+        Random random = new Random(42);
+        List<Person> expected = new ArrayList<>();
+        PersonTree tree = emptyTree;
+        for (int i = 0; i < 2000; i++) {
+            Person person = new PersonBuilder().withName("Person " + random.nextInt(300))
+                    .withId("A" + random.nextInt(300)).build();
+            int index = Collections.binarySearch(expected, person, comparator);
+            if (index >= 0) {
+                expected.remove(index);
+                tree = tree.without(person);
+            } else {
+                expected.add(-index - 1, person);
+                tree = tree.with(person);
+                assertEquals(-index - 1, tree.rankOf(person));
+            }
+        }
+        assertEquals(expected, tree.asList());
+        assertEquals(expected, PersonTree.fromSorted(expected, comparator).asList());
+    }
+}
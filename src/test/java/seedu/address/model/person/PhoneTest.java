@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -38,6 +39,14 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
 
+    @Test
+    public void toString_packedOrLongNumber_returnsNumberAsGiven() {
+        assertEquals("93121534", new Phone("93121534").toString());
+        assertEquals("0065", new Phone("0065").toString()); // leading zeros
+        assertEquals("999999999999999999", new Phone("999999999999999999").toString()); // most digits packed
+        assertEquals("1234567890123456789", new Phone("1234567890123456789").toString()); // too long to pack
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -56,5 +65,7 @@ public class PhoneTest {
 
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
+        assertFalse(phone.equals(new Phone("0999"))); // leading zero
+        assertFalse(new Phone("1234567890123456789").equals(new Phone("1234567890123456780")));
     }
 }
@@ -7,16 +7,25 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -47,6 +56,27 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getPersonById_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_personEditedToNewId_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonById(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPersonById(BOB.getId()));
+    }
+
+    @Test
+    public void getPersonById_personRemoved_returnsEmpty() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +132,24 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void add_personsOutOfOrder_keepsListSortedByName() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_editedNameChangesOrder_movesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, renamedAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -109,6 +157,55 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPersons_manyOfFewPersons_replacesEachPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        Person retaggedCarl = new PersonBuilder(CARL).withTags(VALID_TAG_HUSBAND).build();
+
+        uniquePersonList.setPersons(Arrays.asList(ALICE, CARL), Arrays.asList(renamedAlice, retaggedCarl));
+
+        assertEquals(Arrays.asList(BENSON, retaggedCarl, renamedAlice),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(renamedAlice), uniquePersonList.getPersonById(ALICE.getId()));
+        assertEquals(List.of(retaggedCarl), uniquePersonList.getPersonsWithTag(Tag.of(VALID_TAG_HUSBAND)));
+    }
+
+    @Test
+    public void setPersons_fewOfManyPersons_replacesEachPerson() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withId("P" + i).build());
+        }
+        uniquePersonList.setPersons(persons);
+        Person target = persons.get(0);
+        Person editedPerson = new PersonBuilder(target).withTags(VALID_TAG_HUSBAND).build();
+
+        uniquePersonList.setPersons(List.of(target), List.of(editedPerson));
+
+        assertEquals(Optional.of(editedPerson), uniquePersonList.getPersonById(target.getId()));
+        assertEquals(List.of(editedPerson), uniquePersonList.getPersonsWithTag(Tag.of(VALID_TAG_HUSBAND)));
+        assertEquals(100, uniquePersonList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void setPersons_targetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.setPersons(List.of(ALICE, BENSON), List.of(ALICE, BENSON)));
+    }
+
+    @Test
+    public void setPersons_editedPersonHasNonUniqueIdentity_throwsAndLeavesListUnchanged() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        Person carlAsBenson = new PersonBuilder(CARL).withId(BENSON.getId().toString()).build();
+
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(List.of(ALICE, CARL), List.of(renamedAlice, carlAsBenson)));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -162,12 +259,210 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void snapshot_listChangedAfterwards_snapshotUnchanged() {
+        uniquePersonList.add(ALICE);
+        UniquePersonList.Snapshot snapshot = uniquePersonList.snapshot();
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Collections.singletonList(ALICE), snapshot.asList());
+    }
+
+    @Test
+    public void setPersons_snapshot_restoresPersonsAndIdLookup() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        UniquePersonList.Snapshot snapshot = uniquePersonList.snapshot();
+        uniquePersonList.setPersons(Collections.emptyList());
+
+        uniquePersonList.setPersons(snapshot);
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(CARL), uniquePersonList.getPersonById(CARL.getId()));
+    }
+
+    @Test
+    public void commitTransaction_severalChanges_shownInOneChange() {
+        uniquePersonList.add(BENSON);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(BENSON);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertEquals(Collections.singletonList(BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(0, changeCount[0]);
+
+        uniquePersonList.commitTransaction();
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void commitTransaction_noChanges_noChangeShown() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.commitTransaction();
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void rollbackTransaction_restoresPersonsWithoutChange() {
+        uniquePersonList.add(ALICE);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.add(BENSON);
+        uniquePersonList.setPersons(Collections.singletonList(CARL));
+        uniquePersonList.rollbackTransaction();
+        assertEquals(0, changeCount[0]);
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void transaction_wrongState_throwsIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.commitTransaction());
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.rollbackTransaction());
+        uniquePersonList.beginTransaction();
+        assertThrows(IllegalStateException.class, () -> uniquePersonList.beginTransaction());
+    }
+
+    @Test
+    public void snapshot_concurrentEdits_readersSeeOnlyWholeChanges() throws Exception {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zelda").build();
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(() -> {
+            while (isWriting.get() && failure.get() == null) {
+                List<Person> persons = uniquePersonList.snapshot().asList();
+                boolean isConsistent = persons.equals(Arrays.asList(ALICE, CARL))
+                        || persons.equals(Arrays.asList(CARL, editedAlice));
+                if (!isConsistent || !uniquePersonList.getPersonById(ALICE.getId()).isPresent()) {
+                    failure.set("Saw " + persons);
+                }
+            }
+        });
+        reader.start();
+        for (int i = 0; i < 20000; i++) {
+            uniquePersonList.setPerson(ALICE, editedAlice);
+            uniquePersonList.setPerson(editedAlice, ALICE);
+        }
+        isWriting.set(false);
+        reader.join();
+
+        assertEquals(null, failure.get());
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_personBetweenOthers_showsOnlyTheAddition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        List<String> changes = recordChanges();
+        uniquePersonList.add(BENSON);
+        assertEquals(List.of("added 1 to 2, removed []"), changes);
+    }
+
+    @Test
+    public void setPerson_editedNameChangesOrder_showsRemovalAndAddition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zed Pauline").build();
+        List<String> changes = recordChanges();
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertEquals(List.of("added 0 to 0, removed [" + ALICE + "]", "added 2 to 3, removed []"), changes);
+    }
+
+    @Test
+    public void setPerson_orderUnchanged_showsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<String> changes = recordChanges();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(List.of("added 0 to 1, removed [" + ALICE + "]"), changes);
+    }
+
+    @Test
+    public void remove_existingPerson_showsOnlyTheRemoval() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        List<String> changes = recordChanges();
+        uniquePersonList.remove(BENSON);
+        assertEquals(List.of("added 1 to 1, removed [" + BENSON + "]"), changes);
+    }
+
+    @Test
+    public void getPersonsWithTag_addEditRemove_keptUpToDate() {
+        Tag friends = Tag.of("friends");
+        Tag owesMoney = Tag.of("owesMoney");
+        uniquePersonList.setPersons(Arrays.asList(BENSON, ALICE, CARL));
+        assertEquals(List.of(ALICE, BENSON), uniquePersonList.getPersonsWithTag(friends));
+        assertEquals(1, uniquePersonList.countPersonsWithTag(owesMoney));
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        uniquePersonList.add(DANIEL);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(List.of(DANIEL), uniquePersonList.getPersonsWithTag(friends));
+        assertEquals(0, uniquePersonList.countPersonsWithTag(owesMoney));
+        assertEquals(List.of(editedBenson), uniquePersonList.getPersonsWithTag(Tag.of(VALID_TAG_HUSBAND)));
+    }
+
+    @Test
+    public void getPersonsWithTag_restoredSnapshotOrRollback_matchesRestoredPersons() {
+        Tag friends = Tag.of("friends");
+        uniquePersonList.add(ALICE);
+        UniquePersonList.Snapshot snapshot = uniquePersonList.snapshot();
+        uniquePersonList.add(BENSON);
+
+        uniquePersonList.beginTransaction();
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.countPersonsWithTag(friends));
+        uniquePersonList.rollbackTransaction();
+        assertEquals(List.of(ALICE, BENSON), uniquePersonList.getPersonsWithTag(friends));
+
+        uniquePersonList.setPersons(snapshot);
+        assertEquals(List.of(ALICE), uniquePersonList.getPersonsWithTag(friends));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
 
+    /**
+     * Returns a list to which each part of each change to the observable list is added as it is made.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add("added " + change.getFrom() + " to " + change.getTo()
+                        + ", removed " + change.getRemoved());
+            }
+        });
+        return changes;
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
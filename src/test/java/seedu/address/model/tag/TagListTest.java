@@ -0,0 +1,80 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import org.junit.jupiter.api.Test;
+
+public class TagListTest {
+
+    private final TagList tagList = new TagList();
+
+    @Test
+    public void hasTag_addedThenDeleted() {
+        Tag tag = Tag.of("finance");
+        assertFalse(tagList.hasTag(tag));
+        tagList.addTag(tag);
+        assertTrue(tagList.hasTag(Tag.of("finance")));
+        tagList.deleteTag(tag);
+        assertFalse(tagList.hasTag(tag));
+    }
+
+    @Test
+    public void getTagList_keepsOrderTagsWereAdded() {
+        tagList.addTag(Tag.of("sales"));
+        tagList.addTag(Tag.of("HR"));
+        tagList.addTag(Tag.of("IT"));
+        tagList.deleteTag(Tag.of("HR"));
+        tagList.addTag(Tag.of("HR"));
+        assertEquals(List.of(Tag.of("sales"), Tag.of("IT"), Tag.of("HR")), tagList.getTagList());
+    }
+
+    @Test
+    public void getTagList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> tagList.getTagList().add(Tag.of("HR")));
+    }
+
+    @Test
+    public void getTagList_laterChanges_doNotAffectReturnedList() {
+        tagList.addTag(Tag.of("HR"));
+        List<Tag> tags = tagList.getTagList();
+        assertSame(tags, tagList.getTagList());
+        tagList.addTag(Tag.of("IT"));
+        assertEquals(List.of(Tag.of("HR")), tags);
+        assertEquals(List.of(Tag.of("HR"), Tag.of("IT")), tagList.getTagList());
+    }
+
+    @Test
+    public void listTags_changedTags_updatesListing() {
+        assertEquals("No tags found.", tagList.listTags());
+        tagList.setTags(List.of(Tag.of("HR"), Tag.of("IT")));
+        assertEquals("HR\nIT\n", tagList.listTags());
+        tagList.deleteTag(Tag.of("HR"));
+        assertEquals("IT\n", tagList.listTags());
+    }
+
+    @Test
+    public void listTags_withUsageCounts_showsCountOfEachTag() {
+        assertEquals("No tags found.", tagList.listTags(tag -> 1));
+        tagList.setTags(List.of(Tag.of("HR"), Tag.of("IT")));
+        assertEquals("HR (2)\nIT (0)\n", tagList.listTags(tag -> tag.tagName.equals("HR") ? 2 : 0));
+    }
+
+    @Test
+    public void listTags_sameUsageCounts_reusesListing() {
+        tagList.setTags(List.of(Tag.of("HR"), Tag.of("IT")));
+        ToIntFunction<Tag> usageCounts = tag -> 1;
+        String listing = tagList.listTags(usageCounts);
+        assertSame(listing, tagList.listTags(usageCounts));
+        assertEquals("HR (3)\nIT (3)\n", tagList.listTags(tag -> 3));
+        assertEquals("HR\nIT\n", tagList.listTags());
+        tagList.deleteTag(Tag.of("HR"));
+        assertEquals("IT (1)\n", tagList.listTags(usageCounts));
+    }
+}
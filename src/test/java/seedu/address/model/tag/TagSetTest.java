@@ -0,0 +1,79 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_sameTags_returnsSharedSet() {
+        TagSet tagSet = TagSet.of(Set.of(Tag.of("HR"), Tag.of("remote")));
+        assertSame(tagSet, TagSet.of(List.of(Tag.of("remote"), Tag.of("HR"), Tag.of("HR"))));
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void of_tags_actsAsSetOfTags() {
+        Set<Tag> tags = Set.of(Tag.of("HR"), Tag.of("remote"));
+        TagSet tagSet = TagSet.of(tags);
+
+        assertEquals(2, tagSet.size());
+        assertTrue(tagSet.contains(Tag.of("HR")));
+        assertFalse(tagSet.contains(Tag.of("IT")));
+        assertFalse(tagSet.contains("HR"));
+        assertEquals(tags, tagSet);
+        assertEquals(tagSet, new HashSet<>(tags));
+        assertEquals(tags.hashCode(), tagSet.hashCode());
+        assertEquals(Set.of(), TagSet.of(List.of()));
+    }
+
+    @Test
+    public void of_manyTags_keepsEveryTag() {
+        List<Tag> tags = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tags.add(Tag.of("manyTags" + i));
+        }
+        TagSet tagSet = TagSet.of(tags);
+
+        assertEquals(200, tagSet.size());
+        assertEquals(new HashSet<>(tags), new HashSet<>(tagSet));
+        assertEquals(199, TagSet.of(tags.subList(0, 199)).size());
+    }
+
+    @Test
+    public void of_sameTagsOnManyThreads_returnsOneSharedSet() throws Exception {
+        List<Tag> tags = List.of(Tag.of("manyThreads1"), Tag.of("manyThreads2"));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<TagSet>> tagSets = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            tagSets.add(executor.submit(() -> TagSet.of(tags)));
+        }
+        executor.shutdown();
+
+        TagSet tagSet = TagSet.of(tags);
+        for (Future<TagSet> otherTagSet : tagSets) {
+            assertSame(tagSet, otherTagSet.get());
+        }
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tagSet = TagSet.of(Set.of(Tag.of("HR")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(Tag.of("IT")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(Tag.of("HR")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -7,20 +10,37 @@ import org.junit.jupiter.api.Test;
 public class TagTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Tag(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
     }
 
     @Test
-    public void constructor_invalidTagName_throwsIllegalArgumentException() {
+    public void of_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(invalidTagName));
+    }
+
+    @Test
+    public void of_sameName_returnsSameTag() {
+        assertSame(Tag.of("finance"), Tag.of(new String("finance")));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("R&D"));
     }
 
     @Test
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName("")); // empty string
+        assertFalse(Tag.isValidTagName(" ")); // spaces only
+        assertFalse(Tag.isValidTagName("human resources")); // contains whitespace
+        assertFalse(Tag.isValidTagName("R&D")); // contains non-alphanumeric characters
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("HR")); // alphabets only
+        assertTrue(Tag.isValidTagName("2024")); // numbers only
+        assertTrue(Tag.isValidTagName("RnD2")); // alphanumeric characters
     }
 
 }
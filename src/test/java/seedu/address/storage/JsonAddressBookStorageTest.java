@@ -86,6 +86,20 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_rightAfterReading_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        // the file must not be held open or locked by the read, so it can be overwritten at once
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        AddressBook changed = new AddressBook(readBack);
+        changed.removePerson(ALICE);
+        jsonAddressBookStorage.saveAddressBook(changed);
+        assertEquals(changed, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
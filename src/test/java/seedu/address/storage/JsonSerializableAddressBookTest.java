@@ -1,16 +1,24 @@
 package seedu.address.storage;
 
-//import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
-//import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
 //import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -20,6 +28,9 @@ public class JsonSerializableAddressBookTest {
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     //@Test
     //public void toModelType_typicalPersonsFile_success() throws Exception {
     //    JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -36,6 +47,96 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_largeAddressBook_convertsAllPersons() throws Exception {
+        List<JsonAdaptedPerson> persons = createPersons(3000);
+        AddressBook addressBook = new JsonSerializableAddressBook(persons).toModelType();
+
+        List<Person> expectedPersons = new ArrayList<>();
+        for (JsonAdaptedPerson person : persons) {
+            expectedPersons.add(person.toModelType());
+        }
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.setPersons(expectedPersons);
+        assertEquals(expectedAddressBook, addressBook);
+    }
+
+    @Test
+    public void toModelType_largeAddressBookWithInvalidPersons_reportsFirstInvalidPerson() {
+        List<JsonAdaptedPerson> persons = createPersons(3000);
+        persons.set(1500, new JsonAdaptedPerson("R@chel", "invalid1", "91234567", List.of()));
+        persons.set(2500, new JsonAdaptedPerson("Rachel", "invalid2", "+651234", List.of()));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS,
+                new JsonSerializableAddressBook(persons)::toModelType);
+    }
+
+    @Test
+    public void toModelType_largeAddressBookWithDuplicatePersons_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> persons = createPersons(3000);
+        persons.add(persons.get(1234));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                new JsonSerializableAddressBook(persons)::toModelType);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonSerializableAddressBook.readAddressBook(testFolder.resolve("missing.json")).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonSerializableAddressBook.readAddressBook(
+                INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readAddressBook_noPersons_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("noPersons.json");
+        Files.writeString(filePath, "{ \"tags\" : [ \"friends\" ] }");
+        assertThrows(DataLoadingException.class, () -> JsonSerializableAddressBook.readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_severalBatches_readsAllPersons() throws Exception {
+        List<JsonAdaptedPerson> persons = createPersons(10000);
+        Path filePath = testFolder.resolve("large.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons), filePath);
+
+        assertEquals(new JsonSerializableAddressBook(persons).toModelType(),
+                JsonSerializableAddressBook.readAddressBook(filePath).get());
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonsInLaterBatches_reportsFirstInvalidPerson() throws Exception {
+        List<JsonAdaptedPerson> persons = createPersons(10000);
+        persons.set(5000, new JsonAdaptedPerson("R@chel", "invalid1", "91234567", List.of()));
+        persons.set(9000, new JsonAdaptedPerson("Rachel", "invalid2", "+651234", List.of()));
+        Path filePath = testFolder.resolve("large.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons), filePath);
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                JsonSerializableAddressBook.readAddressBook(filePath));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersonsInDifferentBatches_throwsIllegalValueException() throws Exception {
+        List<JsonAdaptedPerson> persons = createPersons(5000);
+        persons.add(persons.get(10));
+        Path filePath = testFolder.resolve("large.json");
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons), filePath);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonSerializableAddressBook.readAddressBook(filePath));
+    }
+
+    private List<JsonAdaptedPerson> createPersons(int count) {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new JsonAdaptedPerson("Person " + i, "id" + i, "9" + (1000000 + i), List.of()));
+        }
+        return persons;
+    }
+
     //@Test
     //public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
     //    JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
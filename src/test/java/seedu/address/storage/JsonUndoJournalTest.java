@@ -0,0 +1,179 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ChangeRecord;
+import seedu.address.model.UndoJournal;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonUndoJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readHistory_missingFile_returnsEmptyHistory() throws Exception {
+        UndoJournal.History history = new JsonUndoJournal(testFolder.resolve("missing.jsonl")).readHistory();
+        assertEquals(Collections.emptyList(), history.getChanges());
+        assertEquals(0, history.getAppliedCount());
+    }
+
+    @Test
+    public void readHistory_afterReopening_restoresChangesUndoAndRedo() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        ChangeRecord add = ChangeRecord.ofAdd(ALICE);
+        ChangeRecord edit = ChangeRecord.ofEdit(BENSON, new PersonBuilder(BENSON).withPhone("91234567").build());
+        ChangeRecord delete = ChangeRecord.ofDelete(CARL);
+        ChangeRecord clear = ChangeRecord.ofClear(getTypicalAddressBook());
+
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendChange(add);
+        journal.appendChange(edit);
+        journal.appendChange(delete);
+        journal.appendUndo();
+        journal.appendUndo();
+        journal.appendRedo();
+        journal.appendChange(clear);
+        journal.appendUndo();
+        journal.close();
+
+        UndoJournal.History history = new JsonUndoJournal(filePath).readHistory();
+        assertEquals(Arrays.asList(add, edit, clear), history.getChanges());
+        assertEquals(2, history.getAppliedCount());
+    }
+
+    @Test
+    public void readHistory_group_restoresGroupedChangesInOrder() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        ChangeRecord group = ChangeRecord.ofGroup(Arrays.asList(ChangeRecord.ofAdd(ALICE),
+                ChangeRecord.ofDelete(CARL), ChangeRecord.ofClear(getTypicalAddressBook())));
+
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendChange(group);
+        journal.close();
+
+        UndoJournal.History history = new JsonUndoJournal(filePath).readHistory();
+        assertEquals(Collections.singletonList(group), history.getChanges());
+        assertEquals(1, history.getAppliedCount());
+    }
+
+    @Test
+    public void readHistory_tagListChange_restoresTags() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        ChangeRecord group = ChangeRecord.ofGroup(Arrays.asList(
+                ChangeRecord.ofEdit(ALICE, new PersonBuilder(ALICE).withTags("pals").build()),
+                ChangeRecord.ofTags(List.of(Tag.of("friends")), List.of(Tag.of("pals")))));
+
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendChange(group);
+        journal.close();
+
+        UndoJournal.History history = new JsonUndoJournal(filePath).readHistory();
+        assertEquals(Collections.singletonList(group), history.getChanges());
+    }
+
+    @Test
+    public void readHistory_unreadableLastEntry_keepsEarlierEntries() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendChange(ChangeRecord.ofAdd(ALICE));
+        journal.close();
+        Files.write(filePath, "{\"action\":\"DEL".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        UndoJournal.History history = new JsonUndoJournal(filePath).readHistory();
+        assertEquals(Collections.singletonList(ChangeRecord.ofAdd(ALICE)), history.getChanges());
+        assertEquals(1, history.getAppliedCount());
+    }
+
+    @Test
+    public void appendChange_fileGrowsPastLimit_compactsToMostRecentChanges() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        long maxFileBytes = 4096;
+        JsonUndoJournal journal = new JsonUndoJournal(filePath, 5, maxFileBytes);
+        for (int i = 0; i < 200; i++) {
+            journal.appendChange(ChangeRecord.ofAdd(new PersonBuilder().withId("person" + i).build()));
+        }
+        journal.appendUndo();
+
+        UndoJournal.History history = journal.readHistory();
+        journal.close();
+        assertTrue(Files.size(filePath) <= maxFileBytes);
+        List<ChangeRecord> changes = history.getChanges();
+        assertTrue(changes.size() < 200);
+        assertEquals(ChangeRecord.ofAdd(new PersonBuilder().withId("person199").build()),
+                changes.get(changes.size() - 1));
+        assertEquals(changes.size() - 1, history.getAppliedCount());
+    }
+
+    @Test
+    public void appendChange_clearOfLargeAddressBook_keptInSnapshotOutsideJournal() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        long maxFileBytes = 4096;
+        AddressBook largeAddressBook = new AddressBook();
+        for (int i = 0; i < 5000; i++) {
+            largeAddressBook.addPerson(new PersonBuilder().withName("Person " + i).withId("person" + i).build());
+        }
+        ChangeRecord clear = ChangeRecord.ofClear(largeAddressBook);
+
+        JsonUndoJournal journal = new JsonUndoJournal(filePath, 5, maxFileBytes);
+        journal.appendChange(ChangeRecord.ofAdd(ALICE));
+        journal.appendChange(clear);
+        journal.close();
+        assertTrue(Files.size(filePath) <= maxFileBytes);
+        assertEquals(1, countSnapshotFiles());
+
+        UndoJournal.History history = new JsonUndoJournal(filePath).readHistory();
+        assertEquals(Arrays.asList(ChangeRecord.ofAdd(ALICE), clear), history.getChanges());
+        assertEquals(2, history.getAppliedCount());
+
+        // the snapshot is deleted once the clear is compacted away
+        journal = new JsonUndoJournal(filePath, 5, maxFileBytes);
+        for (int i = 0; i < 100; i++) {
+            journal.appendChange(ChangeRecord.ofAdd(new PersonBuilder().withId("person" + i).build()));
+        }
+        journal.readHistory();
+        journal.close();
+        assertEquals(0, countSnapshotFiles());
+    }
+
+    @Test
+    public void clear_journalWithClear_deletesSnapshots() throws Exception {
+        Path filePath = testFolder.resolve("journal.jsonl");
+        JsonUndoJournal journal = new JsonUndoJournal(filePath);
+        journal.appendChange(ChangeRecord.ofClear(getTypicalAddressBook()));
+        journal.readHistory();
+        assertEquals(1, countSnapshotFiles());
+
+        journal.clear();
+        journal.close();
+        assertFalse(Files.exists(filePath));
+        assertEquals(0, countSnapshotFiles());
+    }
+
+    private long countSnapshotFiles() throws IOException {
+        try (Stream<Path> files = Files.list(testFolder)) {
+            return files.filter(file -> file.getFileName().toString().startsWith("journal.jsonl.clear-")).count();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+public class ParallelLoaderTest {
+
+    @Test
+    public void load_severalLoads_runAtTheSameTime() throws Exception {
+        ParallelLoader loader = new ParallelLoader();
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        ParallelLoader.Load<String> first = loader.load("first", () -> awaitOther(bothStarted, "a"));
+        ParallelLoader.Load<String> second = loader.load("second", () -> awaitOther(bothStarted, "b"));
+        String third = loader.run("third", () -> "c");
+
+        assertEquals("a", first.get());
+        assertEquals("b", second.get());
+        assertEquals("c", third);
+        String timings = loader.getTimings();
+        assertTrue(timings.contains("first") && timings.contains("second") && timings.contains("third"), timings);
+        assertTrue(timings.contains("in total"), timings);
+    }
+
+    @Test
+    public void get_loadFailed_throwsSameException() {
+        ParallelLoader loader = new ParallelLoader();
+        DataLoadingException failure = new DataLoadingException(new IOException("dummy IO exception"));
+        ParallelLoader.Load<String> failedLoad = loader.load("failing", () -> {
+            throw failure;
+        });
+        assertThrows(DataLoadingException.class, failedLoad::get);
+
+        ParallelLoader.Load<String> crashedLoad = loader.load("crashing", () -> {
+            throw new IllegalStateException();
+        });
+        assertThrows(IllegalStateException.class, crashedLoad::get);
+    }
+
+    /**
+     * Returns {@code result} once another load has started too, so that it only returns if both run at once.
+     */
+    private static String awaitOther(CountDownLatch bothStarted, String result) throws DataLoadingException {
+        bothStarted.countDown();
+        try {
+            if (!bothStarted.await(10, TimeUnit.SECONDS)) {
+                throw new DataLoadingException(new IOException("Loads did not run at the same time"));
+            }
+        } catch (InterruptedException e) {
+            throw new DataLoadingException(e);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonCardTest {
+
+    @Test
+    public void getSortedTagNames_sortsTagNames() {
+        Person person = new PersonBuilder().withTags("owesMoney", "friends").build();
+        assertEquals(List.of("friends", "owesMoney"), PersonCard.getSortedTagNames(person));
+    }
+
+    @Test
+    public void getSortedTagNames_tagsEditedOnly_showsEditedTags() {
+        assertEquals(List.of("friends", "owesMoney"), PersonCard.getSortedTagNames(BENSON));
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags("colleagues").build();
+        assertEquals(BENSON, editedBenson); // persons that differ only in their tags are equal
+        assertEquals(List.of("colleagues"), PersonCard.getSortedTagNames(editedBenson));
+        assertEquals(List.of("friends", "owesMoney"), PersonCard.getSortedTagNames(BENSON));
+
+        Person untaggedBenson = new PersonBuilder(BENSON).withTags().build();
+        assertEquals(List.of(), PersonCard.getSortedTagNames(untaggedBenson));
+    }
+}